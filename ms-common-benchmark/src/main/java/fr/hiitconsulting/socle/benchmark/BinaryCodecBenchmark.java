@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.benchmark;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.ErrorMessageQuery;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.FieldErrorQuery;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Compares JSON, CBOR and Smile encoding of representative DTOs.
+ *
+ * <br><br>
+ * Run with <code>mvn -Pbenchmark package && java -jar ms-common-benchmark/target/benchmarks.jar
+ * BinaryCodecBenchmark</code>. Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+  @Param({"json", "cbor", "smile"})
+  private String format;
+
+  @Param({"error", "page"})
+  private String payload;
+
+  private ObjectMapper mapper;
+  private JavaType type;
+  private Object value;
+  private byte[] encoded;
+
+  public record AddressQuery(String street, String zipCode, String city, String country) {
+
+  }
+
+  public record UserQuery(UUID id, String firstName, String lastName, String email,
+                          String phone, boolean active, int loginCount, long version,
+                          Instant createdAt, Instant updatedAt, AddressQuery address,
+                          List<String> roles) {
+
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    mapper = switch (format) {
+      case "cbor" -> CBORMapper.builder().build();
+      case "smile" -> SmileMapper.builder().build();
+      default -> JsonMapper.builder().build();
+    };
+
+    if (payload.equals("error")) {
+      value = new ErrorMessageQuery("Validation failed", IntStream.range(0, 10)
+          .mapToObj(i -> new FieldErrorQuery("field" + i, "Le champ ne doit pas être null."))
+          .toList());
+      type = mapper.constructType(ErrorMessageQuery.class);
+    } else {
+      value = IntStream.range(0, 100)
+          .mapToObj(i -> new UserQuery(UUID.randomUUID(), "John" + i, "Doe" + i,
+              "john.doe" + i + "@hiit-consulting.fr", "+3361234567" + (i % 10), i % 2 == 0, i,
+              i * 7L, Instant.parse("2026-01-01T00:00:00Z"), Instant.now(),
+              new AddressQuery(i + " rue de Rivoli", "75001", "Paris", "FR"),
+              List.of("USER", "ADMIN")))
+          .toList();
+      type = mapper.getTypeFactory().constructCollectionType(List.class, UserQuery.class);
+    }
+
+    encoded = mapper.writerFor(type).writeValueAsBytes(value);
+    System.out.printf("%n%s/%s payload: %d bytes%n", format, payload, encoded.length);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return mapper.writerFor(type).writeValueAsBytes(value);
+  }
+
+  @Benchmark
+  public Object deserialize() {
+    return mapper.readerFor(type).readValue(encoded);
+  }
+
+}
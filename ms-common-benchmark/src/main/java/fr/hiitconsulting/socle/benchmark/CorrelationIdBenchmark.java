@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.benchmark;
+
+import fr.hiitconsulting.socle.infrastructure.common.trace.TraceContext;
+import fr.hiitconsulting.socle.infrastructure.common.trace.TraceContextHolder;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request cost of the trace context handled by <code>CorrelationIdFilter</code>.
+ *
+ * <br><br>
+ * <code>randomUuid</code> is the usual alternative, backed by a shared {@link java.security.SecureRandom}.
+ * Run with <code>java -jar ms-common-benchmark/target/benchmarks.jar CorrelationIdBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class CorrelationIdBenchmark {
+
+  private static final String TRACEPARENT =
+      "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+  @Benchmark
+  public TraceContext generate() {
+    return TraceContext.generate();
+  }
+
+  @Benchmark
+  public String randomUuid() {
+    return UUID.randomUUID().toString();
+  }
+
+  @Benchmark
+  public TraceContext parse() {
+    return TraceContext.parse(TRACEPARENT);
+  }
+
+  @Benchmark
+  public String propagate() {
+    return TraceContext.generate().child().toTraceparent();
+  }
+
+  @Benchmark
+  public TraceContext bind() {
+    TraceContext context = TraceContext.parse(TRACEPARENT);
+    return TraceContextHolder.call(context == null ? TraceContext.generate() : context.child(),
+        TraceContextHolder::current);
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Measures the cold start of a minimal servlet application with and without the ms-common
+ * features.
+ *
+ * <br><br>
+ * Each measurement runs in a fresh JVM, so it includes class loading and condition evaluation.
+ * Run with <code>java -jar ms-common-benchmark/target/benchmarks.jar StartupBenchmark</code>.
+ * <br><br>
+ * The application can also be started on its own, for instance to compare startup times with and
+ * without an AOT cache produced by a training run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+  private static final String[] DISABLED_FEATURES = {
+      "app.request-logging.enabled=false",
+      "app.cache-control.enabled=false",
+      "app.etag.enabled=false",
+      "app.exception-handler.enabled=false",
+      "app.sparse-fieldsets.enabled=false",
+      "app.binary-codecs.enabled=false",
+      "app.jackson.warm-up=false"
+  };
+
+  @Param({"enabled", "disabled"})
+  private String features;
+
+  @SpringBootApplication
+  @RestController
+  public static class StartupApplication {
+
+    public static void main(String[] args) {
+      SpringApplication.run(StartupApplication.class, args);
+    }
+
+    public record GreetingQuery(String message) {
+
+    }
+
+    @GetMapping("/greeting")
+    public GreetingQuery greeting() {
+      return new GreetingQuery("Hello");
+    }
+
+  }
+
+  @Benchmark
+  public void start() {
+    SpringApplicationBuilder builder = new SpringApplicationBuilder(StartupApplication.class)
+        .web(WebApplicationType.SERVLET)
+        .logStartupInfo(false)
+        .properties("server.port=0", "spring.main.banner-mode=off");
+    if (features.equals("disabled")) {
+      builder.properties(DISABLED_FEATURES);
+    }
+
+    try (ConfigurableApplicationContext context = builder.run()) {
+      SpringApplication.exit(context);
+    }
+  }
+
+}
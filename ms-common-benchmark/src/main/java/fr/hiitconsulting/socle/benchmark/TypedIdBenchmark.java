@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.benchmark;
+
+import fr.hiitconsulting.socle.domain.shared.id.UuidId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of <code>UuidId</code> identifiers compared to <code>String</code> and <code>UUID</code>
+ * ones.
+ *
+ * <br><br>
+ * Run with <code>java -jar ms-common-benchmark/target/benchmarks.jar TypedIdBenchmark -prof gc</code>
+ * to also compare the allocations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypedIdBenchmark {
+
+  private static final int SIZE = 10_000;
+
+  private final Map<String, Integer> stringMap = new HashMap<>();
+  private final Map<UuidId<Object>, Integer> idMap = new HashMap<>();
+  private final String[] strings = new String[SIZE];
+  private final UuidId<?>[] ids = new UuidId<?>[SIZE];
+  private final StringBuilder builder = new StringBuilder(36);
+  private int index;
+
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < SIZE; i++) {
+      UuidId<Object> id = UuidId.v7();
+      ids[i] = id;
+      strings[i] = id.toString();
+      idMap.put(id, i);
+      stringMap.put(strings[i], i);
+    }
+  }
+
+  @Benchmark
+  public UuidId<Object> generateV7() {
+    return UuidId.v7();
+  }
+
+  @Benchmark
+  public UUID generateRandomUuid() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  public UuidId<Object> parseId() {
+    return UuidId.parse(next(strings));
+  }
+
+  @Benchmark
+  public UUID parseUuid() {
+    return UUID.fromString(next(strings));
+  }
+
+  @Benchmark
+  public String formatId() {
+    return next(ids).toString();
+  }
+
+  @Benchmark
+  public StringBuilder appendId() {
+    builder.setLength(0);
+    return next(ids).appendTo(builder);
+  }
+
+  @Benchmark
+  public String formatUuid() {
+    return next(ids).toUuid().toString();
+  }
+
+  @Benchmark
+  public Integer lookupString() {
+    return stringMap.get(new String(next(strings)));
+  }
+
+  @Benchmark
+  public Integer lookupId() {
+    return idMap.get(next(ids));
+  }
+
+  private <T> T next(T[] values) {
+    index = (index + 1) % SIZE;
+    return values[index];
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.domain.shared.event;
+
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Consumer of the published events of a type, and of its subtypes.
+ *
+ * <br><br>
+ * Events are received in batches, in publication order, by a single thread at a time: a
+ * consumer can write a whole batch at once without synchronization. An exception thrown while
+ * consuming a batch is logged, and the batch is not retried.
+ */
+@NullMarked
+public interface DomainEventConsumer<E extends DomainEvent> {
+
+  Class<E> eventType();
+
+  void consume(List<E> events);
+
+  /**
+   * Name of the consumer, used as its configuration key and metrics tag.
+   */
+  default String name() {
+    return getClass().getSimpleName();
+  }
+
+}
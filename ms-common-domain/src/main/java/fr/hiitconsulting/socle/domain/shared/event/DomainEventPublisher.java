@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.domain.shared.event;
+
+import java.util.Collection;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Publishes domain events to their consumers.
+ *
+ * <br><br>
+ * Publishing only enqueues the event: consumers run later, on their own threads, so they add
+ * no latency to the publisher. A consumer whose queue is full may make the publisher wait,
+ * drop the event, or reject it with a {@link java.util.concurrent.RejectedExecutionException},
+ * depending on its configuration.
+ */
+@NullMarked
+public interface DomainEventPublisher {
+
+  void publish(DomainEvent event);
+
+  default void publishAll(Collection<? extends DomainEvent> events) {
+    events.forEach(this::publish);
+  }
+
+}
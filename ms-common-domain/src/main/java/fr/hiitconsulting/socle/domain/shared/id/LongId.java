@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.domain.shared.id;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Identifier of a <code>T</code> backed by a <code>long</code>, typically a database sequence.
+ *
+ * <br><br>
+ * The type parameter only exists at compile time, so that a <code>LongId&lt;Order&gt;</code>
+ * cannot be passed where a <code>LongId&lt;Customer&gt;</code> is expected.
+ */
+@NullMarked
+public record LongId<T>(long value) implements Comparable<LongId<T>> {
+
+  public static <T> LongId<T> parse(CharSequence text) {
+    try {
+      return new LongId<>(Long.parseLong(text, 0, text.length(), 10));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          "Le champ [id='" + text + "'] n'est pas un identifiant valide.", e);
+    }
+  }
+
+  @Override
+  public int compareTo(LongId<T> other) {
+    return Long.compare(value, other.value);
+  }
+
+  @Override
+  public String toString() {
+    return Long.toString(value);
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.domain.shared.id;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Identifier of a <code>T</code> backed by the two halves of a UUID, instead of its 36
+ * characters string.
+ *
+ * <br><br>
+ * The type parameter only exists at compile time, so that an <code>UuidId&lt;Order&gt;</code>
+ * cannot be passed where an <code>UuidId&lt;Customer&gt;</code> is expected. Identifiers
+ * created with {@link #v7()} are ordered by creation time.
+ */
+@NullMarked
+public record UuidId<T>(long mostSignificantBits, long leastSignificantBits)
+    implements Comparable<UuidId<T>> {
+
+  private static final int LENGTH = 36;
+
+  private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  private static final byte[] HEX_VALUES = new byte[128];
+
+  static {
+    Arrays.fill(HEX_VALUES, (byte) -1);
+    for (int i = 0; i < 16; i++) {
+      HEX_VALUES[HEX_DIGITS[i]] = (byte) i;
+      HEX_VALUES[Character.toUpperCase(HEX_DIGITS[i])] = (byte) i;
+    }
+  }
+
+  /**
+   * New time-ordered identifier, see {@link UuidV7Generator}.
+   */
+  public static <T> UuidId<T> v7() {
+    return UuidV7Generator.shared().next();
+  }
+
+  public static <T> UuidId<T> of(UUID uuid) {
+    return new UuidId<>(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+  }
+
+  /**
+   * Parses the canonical form of a UUID, <code>xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx</code>,
+   * without allocating anything but the identifier.
+   */
+  public static <T> UuidId<T> parse(CharSequence text) {
+    if (text.length() != LENGTH || text.charAt(8) != '-' || text.charAt(13) != '-'
+        || text.charAt(18) != '-' || text.charAt(23) != '-') {
+      throw invalid(text);
+    }
+    long group1 = nibbles(text, 0) << 16 | nibbles(text, 4);
+    long group2 = nibbles(text, 9);
+    long group3 = nibbles(text, 14);
+    long group4 = nibbles(text, 19);
+    long group5 = nibbles(text, 24) << 32 | nibbles(text, 28) << 16 | nibbles(text, 32);
+    // invalid digits are negative, and so is any group holding one
+    if ((group1 | group2 | group3 | group4 | group5) < 0) {
+      throw invalid(text);
+    }
+    long mostSignificantBits = group1 << 32 | group2 << 16 | group3;
+    long leastSignificantBits = group4 << 48 | group5;
+    return new UuidId<>(mostSignificantBits, leastSignificantBits);
+  }
+
+  public UUID toUuid() {
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+  public int version() {
+    return (int) (mostSignificantBits >>> 12) & 0xF;
+  }
+
+  /**
+   * Creation time of a version 7 identifier, to the millisecond.
+   */
+  public Instant timestamp() {
+    if (version() != 7) {
+      throw new IllegalStateException("Only version 7 identifiers hold a timestamp");
+    }
+    return Instant.ofEpochMilli(mostSignificantBits >>> 16);
+  }
+
+  /**
+   * Appends the canonical form of the identifier, without allocating anything when the builder
+   * has room for it.
+   */
+  public StringBuilder appendTo(StringBuilder builder) {
+    append(builder, mostSignificantBits >>> 32, 8).append('-');
+    append(builder, mostSignificantBits >>> 16, 4).append('-');
+    append(builder, mostSignificantBits, 4).append('-');
+    append(builder, leastSignificantBits >>> 48, 4).append('-');
+    return append(builder, leastSignificantBits, 12);
+  }
+
+  @Override
+  public int compareTo(UuidId<T> other) {
+    int comparison = Long.compareUnsigned(mostSignificantBits, other.mostSignificantBits);
+    return comparison != 0 ? comparison
+        : Long.compareUnsigned(leastSignificantBits, other.leastSignificantBits);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(mostSignificantBits ^ leastSignificantBits);
+  }
+
+  /**
+   * Canonical form of the identifier. Only the string and its pre-sized builder are allocated,
+   * use {@link #appendTo(StringBuilder)} with a reused builder to allocate nothing.
+   */
+  @Override
+  public String toString() {
+    return appendTo(new StringBuilder(LENGTH)).toString();
+  }
+
+  private static StringBuilder append(StringBuilder builder, long value, int digits) {
+    for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+      builder.append((char) HEX_DIGITS[(int) (value >>> shift) & 0xF]);
+    }
+    return builder;
+  }
+
+  /**
+   * @return the value of the 4 hexadecimal digits at the offset, negative if invalid
+   */
+  private static long nibbles(CharSequence text, int offset) {
+    char c1 = text.charAt(offset);
+    char c2 = text.charAt(offset + 1);
+    char c3 = text.charAt(offset + 2);
+    char c4 = text.charAt(offset + 3);
+    if ((c1 | c2 | c3 | c4) >= HEX_VALUES.length) {
+      return -1;
+    }
+    return HEX_VALUES[c1] << 12 | HEX_VALUES[c2] << 8 | HEX_VALUES[c3] << 4 | HEX_VALUES[c4];
+  }
+
+  private static IllegalArgumentException invalid(CharSequence text) {
+    return new IllegalArgumentException(
+        "Le champ [id='" + text + "'] n'est pas un identifiant valide.");
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.domain.shared.id;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Lock-free generator of version 7 UUIDs (RFC 9562): a millisecond timestamp, a 12 bits counter
+ * and 62 random bits.
+ *
+ * <br><br>
+ * Identifiers are strictly increasing, even within a millisecond or when the clock goes
+ * backwards: the counter starts at a random value on each new millisecond and, once exhausted,
+ * borrows the next millisecond.
+ *
+ * <br><br>
+ * The 62 random bits come from a {@link SecureRandom}, as in {@link java.util.UUID#randomUUID()},
+ * so that an identifier cannot be guessed from the previous ones. The timestamp and counter are
+ * still predictable: an identifier must not be used as a secret on its own.
+ */
+@NullMarked
+public final class UuidV7Generator {
+
+  private static final UuidV7Generator SHARED = new UuidV7Generator(System::currentTimeMillis);
+
+  private static final int COUNTER_BITS = 12;
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private final LongSupplier clock;
+
+  /**
+   * Last timestamp and counter used.
+   */
+  private final AtomicLong last = new AtomicLong();
+
+  /**
+   * @param clock current time in milliseconds since the epoch
+   */
+  public UuidV7Generator(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  public static UuidV7Generator shared() {
+    return SHARED;
+  }
+
+  public <T> UuidId<T> next() {
+    long now = clock.getAsLong() << COUNTER_BITS;
+    long state = last.accumulateAndGet(now, (previous, current) -> previous >= current
+        ? previous + 1
+        // half of the counter is left for the identifiers of the same millisecond
+        : current | ThreadLocalRandom.current().nextInt(1 << (COUNTER_BITS - 1)));
+
+    long mostSignificantBits = (state >>> COUNTER_BITS) << 16 | 0x7000L
+        | (state & ((1 << COUNTER_BITS) - 1));
+    long leastSignificantBits = RANDOM.nextLong() >>> 2
+        | 0x8000_0000_0000_0000L;
+    return new UuidId<>(mostSignificantBits, leastSignificantBits);
+  }
+
+}
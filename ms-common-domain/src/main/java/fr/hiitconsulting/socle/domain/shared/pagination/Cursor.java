@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.domain.shared.pagination;
+
+import static fr.hiitconsulting.socle.domain.shared.validator.DomainValidation.between;
+import static fr.hiitconsulting.socle.domain.shared.validator.DomainValidation.requireNotBlank;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Position in a keyset paginated list: the sort key values of the row before (or after) which
+ * the next page starts.
+ *
+ * <br><br>
+ * Clients only see its encoded form, a short URL-safe string. The sort is part of the cursor,
+ * so that it cannot be reused with another one.
+ */
+@NullMarked
+public record Cursor(Direction direction, String sort, boolean descending, List<String> keys) {
+
+  private static final int VERSION = 1;
+
+  private static final int MAX_KEYS = 8;
+
+  public enum Direction {
+    /**
+     * Rows following the keys, for the next page.
+     */
+    AFTER,
+    /**
+     * Rows preceding the keys, for the previous page.
+     */
+    BEFORE
+  }
+
+  public Cursor {
+    requireNotBlank("sort", sort);
+    between("keys", keys.size(), 1, MAX_KEYS);
+    keys = List.copyOf(keys);
+  }
+
+  public String encode() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+      out.writeByte((direction == Direction.BEFORE ? 1 : 0) | (descending ? 2 : 0));
+      out.writeUTF(sort);
+      out.writeByte(keys.size());
+      for (String key : keys) {
+        out.writeUTF(key);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+  }
+
+  public static Cursor decode(String encoded) {
+    try (DataInputStream in = new DataInputStream(
+        new ByteArrayInputStream(Base64.getUrlDecoder().decode(encoded)))) {
+      if (in.readByte() != VERSION) {
+        throw invalid(encoded);
+      }
+      int flags = in.readByte();
+      String sort = in.readUTF();
+      int size = in.readByte();
+      List<String> keys = new ArrayList<>(Math.max(size, 0));
+      for (int i = 0; i < size; i++) {
+        keys.add(in.readUTF());
+      }
+      if (in.available() > 0) {
+        throw invalid(encoded);
+      }
+      return new Cursor((flags & 1) == 0 ? Direction.AFTER : Direction.BEFORE, sort,
+          (flags & 2) != 0, keys);
+    } catch (IOException | IllegalArgumentException e) {
+      throw invalid(encoded);
+    }
+  }
+
+  private static IllegalArgumentException invalid(String encoded) {
+    return new IllegalArgumentException(
+        "Le champ [cursor='" + encoded + "'] n'est pas un curseur valide.");
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.domain.shared.pagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Page of a keyset paginated list, with the cursors of the pages around it.
+ */
+@NullMarked
+public record CursorPage<T>(List<T> items, @Nullable Cursor next, @Nullable Cursor previous) {
+
+  public CursorPage {
+    items = List.copyOf(items);
+  }
+
+  /**
+   * Builds the page from the rows read for the request.
+   *
+   * @param rows at most {@link CursorRequest#fetchSize()} rows, in scan order
+   * @param keys sort key values of a row, as stored in the cursors
+   */
+  public static <T> CursorPage<T> of(List<T> rows, CursorRequest request,
+      Function<? super T, List<String>> keys) {
+    boolean hasMore = rows.size() > request.size();
+    List<T> items = new ArrayList<>(hasMore ? rows.subList(0, request.size()) : rows);
+    if (items.isEmpty()) {
+      return new CursorPage<>(List.of(), null, null);
+    }
+    if (request.isBackward()) {
+      Collections.reverse(items);
+    }
+
+    boolean hasNext = request.isBackward() || hasMore;
+    boolean hasPrevious = request.isBackward() ? hasMore : request.cursor() != null;
+    return new CursorPage<>(items,
+        hasNext ? cursor(Cursor.Direction.AFTER, request, keys.apply(items.getLast())) : null,
+        hasPrevious ? cursor(Cursor.Direction.BEFORE, request, keys.apply(items.getFirst()))
+            : null);
+  }
+
+  public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+    return new CursorPage<>(items.stream().<R>map(mapper).toList(), next, previous);
+  }
+
+  private static Cursor cursor(Cursor.Direction direction, CursorRequest request,
+      List<String> keys) {
+    return new Cursor(direction, request.sort(), request.descending(), keys);
+  }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.domain.shared.pagination;
+
+import static fr.hiitconsulting.socle.domain.shared.validator.DomainValidation.between;
+import static fr.hiitconsulting.socle.domain.shared.validator.DomainValidation.oneOf;
+import static fr.hiitconsulting.socle.domain.shared.validator.DomainValidation.requireNotBlank;
+
+import java.util.Collection;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Page of a keyset paginated list to read, starting at the cursor or at the beginning of the
+ * list.
+ *
+ * <br><br>
+ * Repositories read {@link #fetchSize()} rows, one more than the page size to know whether
+ * another page follows, with a <code>WHERE (sort keys) &gt; (cursor keys)</code> condition
+ * instead of an offset, in {@link #scanDescending() scan order}. The rows are then handed to
+ * {@link CursorPage#of} as read.
+ */
+@NullMarked
+public record CursorRequest(@Nullable Cursor cursor, int size, String sort, boolean descending) {
+
+  /**
+   * Prefix of a descending sort, as in <code>sort=-createdAt</code>.
+   */
+  public static final String DESCENDING_PREFIX = "-";
+
+  public CursorRequest {
+    // one more row than the page size is read
+    between("size", size, 1, Integer.MAX_VALUE - 1);
+    requireNotBlank("sort", sort);
+    if (cursor != null && (!cursor.sort().equals(sort) || cursor.descending() != descending)) {
+      throw new IllegalArgumentException(
+          "Le champ [cursor] ne correspond pas au tri [sort='" + sortParameter(sort, descending)
+              + "'].");
+    }
+  }
+
+  public static CursorRequest first(int size, String sort, boolean descending) {
+    return new CursorRequest(null, size, sort, descending);
+  }
+
+  /**
+   * Parses and validates the pagination parameters of a request.
+   *
+   * @param cursor encoded cursor, <code>null</code> for the first page
+   * @param size page size, <code>null</code> for the default size
+   * @param sort sort key, prefixed by {@link #DESCENDING_PREFIX} for a descending order,
+   *     <code>null</code> for the sort of the cursor or the default sort
+   * @param sortable sort keys allowed
+   */
+  public static CursorRequest of(@Nullable String cursor, @Nullable Integer size,
+      @Nullable String sort, Collection<String> sortable, String defaultSort, int defaultSize,
+      int maxSize) {
+    Cursor decoded = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+    String sortParameter = sort == null || sort.isBlank()
+        ? decoded == null ? defaultSort : sortParameter(decoded.sort(), decoded.descending())
+        : sort;
+    boolean descending = sortParameter.startsWith(DESCENDING_PREFIX);
+    String key = descending ? sortParameter.substring(DESCENDING_PREFIX.length()) : sortParameter;
+    oneOf("sort", key, sortable);
+    int pageSize = size == null ? defaultSize : size;
+    between("size", pageSize, 1, maxSize);
+    return new CursorRequest(decoded, pageSize, key, descending);
+  }
+
+  /**
+   * Rows to read: one more than the page size, to know whether another page follows.
+   */
+  public int fetchSize() {
+    return size + 1;
+  }
+
+  /**
+   * Whether the page precedes the cursor, its rows being then read backwards.
+   */
+  public boolean isBackward() {
+    return cursor != null && cursor.direction() == Cursor.Direction.BEFORE;
+  }
+
+  /**
+   * Whether the rows are read in descending order of the sort keys.
+   */
+  public boolean scanDescending() {
+    return descending != isBackward();
+  }
+
+  /**
+   * Sort key values the rows read must follow, empty for the first page.
+   */
+  public List<String> keys() {
+    return cursor == null ? List.of() : cursor.keys();
+  }
+
+  private static String sortParameter(String sort, boolean descending) {
+    return descending ? DESCENDING_PREFIX + sort : sort;
+  }
+
+}
@@ -83,6 +83,17 @@ public class DomainValidation {
         "Le champ [" + fieldName + "='" + value + "']  n'est pas une adresse email valide.");
   }
 
+  public static void oneOf(String fieldName, @Nullable String value, Collection<String> allowed) {
+    validate(isNotNull(value) && allowed.contains(value),
+        "Le champ [" + fieldName + "='" + value + "'] doit être parmi " + allowed + ".");
+  }
+
+  public static void between(String fieldName, int value, int min, int max) {
+    validate(value >= min && value <= max,
+        "Le champ [" + fieldName + "='" + value + "'] doit être compris entre " + min + " et "
+            + max + ".");
+  }
+
   private static void validate(boolean isValid, String errorMessage) {
     if (!isValid) {
       throw new IllegalArgumentException(errorMessage);
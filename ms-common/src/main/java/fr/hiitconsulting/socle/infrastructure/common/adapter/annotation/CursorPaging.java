@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Pagination settings of a <code>CursorRequest</code> controller parameter
+ *
+ * <br><br>
+ * The request is bound from the <code>cursor</code>, <code>size</code> and <code>sort</code>
+ * query parameters (<code>?sort=-createdAt&amp;size=50</code>). Unknown sort keys, sizes out of
+ * bounds and invalid cursors are rejected with a 400 response.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CursorPaging {
+
+  String DEFAULT_SORT = "id";
+
+  int DEFAULT_SIZE = 20;
+
+  int MAX_SIZE = 100;
+
+  /**
+   * Sort keys allowed, each being a unique and indexed combination of columns.
+   */
+  String[] sortable() default DEFAULT_SORT;
+
+  /**
+   * Sort of the first page, the first sortable key when empty.
+   */
+  String defaultSort() default "";
+
+  int defaultSize() default DEFAULT_SIZE;
+
+  int maxSize() default MAX_SIZE;
+
+}
@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.BatchRequestQuery;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.BatchResponseQuery;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.ErrorMessageQuery;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.BatchTooLargeException;
+import fr.hiitconsulting.socle.infrastructure.common.deadline.Deadline;
+import fr.hiitconsulting.socle.infrastructure.common.deadline.DeadlineHolder;
+import fr.hiitconsulting.socle.infrastructure.common.trace.TraceContext;
+import fr.hiitconsulting.socle.infrastructure.common.trace.TraceContextHolder;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.DispatcherServlet;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Runs several <code>GET</code> requests in a single round-trip.
+ *
+ * <br><br>
+ * Sub-requests are dispatched in parallel, on virtual threads, to the
+ * <code>DispatcherServlet</code>: handler interceptors and exception handlers apply, other
+ * servlet filters only apply to the batch request itself. Each sub-request gets its own status,
+ * headers and body, errors being described by an <code>ErrorMessage</code>.
+ * <br><br>
+ * Each sub-request first goes through the given filters, the Spring Security filter chain and
+ * the {@link RateLimitFilter} when present, so that URL authorization rules and rate limits
+ * apply per sub-request, and the security context is established on the worker thread.
+ * Sub-requests share the trace context and the deadline of the batch request.
+ */
+@Slf4j
+@NullMarked
+@RestController
+@RequiredArgsConstructor
+public class BatchController {
+
+  public static final String PATH = "/batch";
+
+  private final ObjectProvider<DispatcherServlet> dispatcherServlet;
+
+  private final JsonMapper jsonMapper;
+
+  private final int maxRequests;
+
+  /**
+   * Filters applied to each sub-request, in order.
+   */
+  private final List<Filter> filters;
+
+  @PostMapping(path = PATH, consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public List<BatchResponseQuery> batch(@RequestBody List<BatchRequestQuery> requests,
+      HttpServletRequest batchRequest, HttpServletResponse batchResponse)
+      throws BatchTooLargeException {
+    if (requests.size() > maxRequests) {
+      throw new BatchTooLargeException(maxRequests);
+    }
+
+    FilterChain chain = chain(dispatcherServlet.getObject());
+    TraceContext trace = TraceContextHolder.current();
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    Deadline deadline = DeadlineHolder.current();
+    List<Future<BatchResponseQuery>> responses;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      responses = requests.stream()
+          .map(request -> executor.submit(() -> {
+            if (mdc != null) {
+              MDC.setContextMap(mdc);
+            }
+            try {
+              return scoped(trace, deadline,
+                  () -> dispatch(chain, request, batchRequest, batchResponse, deadline));
+            } finally {
+              MDC.clear();
+            }
+          }))
+          .toList();
+    }
+    return responses.stream().map(Future::resultNow).toList();
+  }
+
+  private FilterChain chain(DispatcherServlet servlet) {
+    FilterChain chain = servlet::service;
+    for (Filter filter : filters.reversed()) {
+      FilterChain next = chain;
+      chain = (request, response) -> filter.doFilter(request, response, next);
+    }
+    return chain;
+  }
+
+  private BatchResponseQuery dispatch(FilterChain chain, BatchRequestQuery query,
+      HttpServletRequest batchRequest, HttpServletResponse batchResponse,
+      @Nullable Deadline deadline) {
+    String path = query.path();
+    if (path == null || !path.startsWith("/") || path.startsWith(PATH)) {
+      return error(HttpStatus.BAD_REQUEST, "Invalid sub-request path: " + path);
+    }
+
+    BatchSubRequest request = new BatchSubRequest(batchRequest, path,
+        query.headers() == null ? Map.of() : query.headers());
+    if (deadline != null) {
+      request.setAttribute(Deadline.ATTRIBUTE, deadline);
+    }
+    BatchSubResponse response = new BatchSubResponse(batchResponse);
+    try {
+      chain.doFilter(request, response);
+    } catch (Exception e) {
+      log.error("Batched request {} failed", path, e);
+      return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal error");
+    }
+
+    byte[] body = response.body();
+    if (body.length == 0 && response.getStatus() >= 400) {
+      HttpStatus status = HttpStatus.resolve(response.getStatus());
+      return error(response.getStatus(), status == null ? "Error" : status.getReasonPhrase());
+    }
+    try {
+      return new BatchResponseQuery(response.getStatus(), response.headers(),
+          body(response.getContentType(), body));
+    } catch (RuntimeException e) {
+      log.warn("Body of batched request {} could not be read as {}, returned as binary", path,
+          response.getContentType(), e);
+      return new BatchResponseQuery(response.getStatus(), response.headers(),
+          jsonMapper.getNodeFactory().binaryNode(body));
+    }
+  }
+
+  private @Nullable JsonNode body(@Nullable String contentType, byte[] body) {
+    if (body.length == 0) {
+      return null;
+    }
+    MediaType mediaType = contentType == null ? MediaType.APPLICATION_OCTET_STREAM
+        : MediaType.parseMediaType(contentType);
+    if (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)
+        || mediaType.getSubtype().endsWith("+json")) {
+      return jsonMapper.readTree(body);
+    }
+    if ("text".equals(mediaType.getType())) {
+      return jsonMapper.getNodeFactory().stringNode(new String(body,
+          mediaType.getCharset() == null ? StandardCharsets.UTF_8
+              : mediaType.getCharset()));
+    }
+    return jsonMapper.getNodeFactory().binaryNode(body);
+  }
+
+  private BatchResponseQuery error(HttpStatus status, String message) {
+    return error(status.value(), message);
+  }
+
+  private BatchResponseQuery error(int status, String message) {
+    ErrorMessageQuery error = new ErrorMessageQuery(message, null,
+        TraceContextHolder.currentTraceId());
+    return new BatchResponseQuery(status,
+        Map.of(HttpHeaders.CONTENT_TYPE, List.of(MediaType.APPLICATION_JSON_VALUE)),
+        jsonMapper.valueToTree(error));
+  }
+
+  /**
+   * Runs the task with the trace context and the deadline of the batch request bound.
+   */
+  private static BatchResponseQuery scoped(@Nullable TraceContext trace,
+      @Nullable Deadline deadline, Supplier<BatchResponseQuery> task) {
+    if (trace != null) {
+      return TraceContextHolder.call(trace, () -> scoped(null, deadline, task));
+    }
+    if (deadline != null) {
+      return DeadlineHolder.call(deadline, task::get);
+    }
+    return task.get();
+  }
+
+}
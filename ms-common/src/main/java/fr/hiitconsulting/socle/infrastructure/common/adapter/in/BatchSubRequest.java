@@ -0,0 +1,272 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * <code>GET</code> sub-request of a batch, sharing the user and session of the batch request.
+ *
+ * <br><br>
+ * Headers are inherited from the batch request, except the body and conditional ones, and can
+ * be overridden per sub-request. Attributes set on the sub-request are private to it. Those of
+ * the batch request, such as an authenticated API key, remain readable, except the framework
+ * ones and the markers of the filters applied to the batch request, so that the sub-request
+ * goes through them again.
+ */
+@NullMarked
+final class BatchSubRequest extends HttpServletRequestWrapper {
+
+  private static final Object REMOVED = new Object();
+
+  private static final Set<String> BATCH_ONLY_HEADERS = Set.of(
+      HttpHeaders.CONTENT_TYPE.toLowerCase(), HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+      HttpHeaders.IF_NONE_MATCH.toLowerCase(), HttpHeaders.IF_MODIFIED_SINCE.toLowerCase(),
+      HttpHeaders.IF_MATCH.toLowerCase(), HttpHeaders.IF_UNMODIFIED_SINCE.toLowerCase(),
+      IdempotencyFilter.IDEMPOTENCY_KEY.toLowerCase());
+
+  private final String path;
+
+  @Nullable
+  private final String queryString;
+
+  private final Map<String, String[]> parameters = new LinkedHashMap<>();
+
+  private final HttpHeaders headers = new HttpHeaders();
+
+  /**
+   * Attributes set on the sub-request, {@link #REMOVED} hiding one of the batch request.
+   */
+  private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+  BatchSubRequest(HttpServletRequest batchRequest, String uri, Map<String, String> headers) {
+    super(batchRequest);
+    UriComponents components = UriComponentsBuilder.fromUriString(uri).build();
+    this.path = components.getPath() == null ? "/" : components.getPath();
+    this.queryString = components.getQuery();
+    components.getQueryParams().forEach((name, values) -> parameters.put(
+        UriUtils.decode(name, StandardCharsets.UTF_8),
+        values.stream()
+            .map(value -> value == null ? "" : UriUtils.decode(value,
+                StandardCharsets.UTF_8))
+            .toArray(String[]::new)));
+
+    for (String name : Collections.list(batchRequest.getHeaderNames())) {
+      if (!BATCH_ONLY_HEADERS.contains(name.toLowerCase())) {
+        this.headers.addAll(name, Collections.list(batchRequest.getHeaders(name)));
+      }
+    }
+    headers.forEach(this.headers::set);
+  }
+
+  @Override
+  public String getMethod() {
+    return HttpMethod.GET.name();
+  }
+
+  @Override
+  public String getRequestURI() {
+    return getContextPath() + path;
+  }
+
+  @Override
+  public StringBuffer getRequestURL() {
+    StringBuffer url = new StringBuffer();
+    url.append(getScheme()).append("://").append(getServerName()).append(':')
+        .append(getServerPort()).append(getRequestURI());
+    return url;
+  }
+
+  @Override
+  public String getServletPath() {
+    return path;
+  }
+
+  @Override
+  public @Nullable String getPathInfo() {
+    return null;
+  }
+
+  @Override
+  public @Nullable String getQueryString() {
+    return queryString;
+  }
+
+  @Override
+  public @Nullable String getParameter(String name) {
+    String[] values = parameters.get(name);
+    return values == null || values.length == 0 ? null : values[0];
+  }
+
+  @Override
+  public Map<String, String[]> getParameterMap() {
+    return Collections.unmodifiableMap(parameters);
+  }
+
+  @Override
+  public Enumeration<String> getParameterNames() {
+    return Collections.enumeration(parameters.keySet());
+  }
+
+  @Override
+  public String @Nullable [] getParameterValues(String name) {
+    return parameters.get(name);
+  }
+
+  @Override
+  public @Nullable String getHeader(String name) {
+    return headers.getFirst(name);
+  }
+
+  @Override
+  public Enumeration<String> getHeaders(String name) {
+    return Collections.enumeration(headers.getValuesAsList(name));
+  }
+
+  @Override
+  public Enumeration<String> getHeaderNames() {
+    return Collections.enumeration(headers.headerNames());
+  }
+
+  @Override
+  public int getIntHeader(String name) {
+    String value = getHeader(name);
+    return value == null ? -1 : Integer.parseInt(value);
+  }
+
+  @Override
+  public long getDateHeader(String name) {
+    String value = getHeader(name);
+    return value == null ? -1 : ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME)
+        .toInstant().toEpochMilli();
+  }
+
+  @Override
+  public @Nullable String getContentType() {
+    return null;
+  }
+
+  @Override
+  public int getContentLength() {
+    return -1;
+  }
+
+  @Override
+  public long getContentLengthLong() {
+    return -1;
+  }
+
+  @Override
+  public @Nullable Object getAttribute(String name) {
+    Object value = attributes.get(name);
+    if (value == null) {
+      return isInherited(name) ? super.getAttribute(name) : null;
+    }
+    return value == REMOVED ? null : value;
+  }
+
+  @Override
+  public Enumeration<String> getAttributeNames() {
+    Set<String> names = new LinkedHashSet<>();
+    for (String name : Collections.list(super.getAttributeNames())) {
+      if (isInherited(name)) {
+        names.add(name);
+      }
+    }
+    attributes.forEach((name, value) -> {
+      if (value == REMOVED) {
+        names.remove(name);
+      } else {
+        names.add(name);
+      }
+    });
+    return Collections.enumeration(names);
+  }
+
+  @Override
+  public void setAttribute(String name, @Nullable Object value) {
+    attributes.put(name, value == null ? REMOVED : value);
+  }
+
+  @Override
+  public void removeAttribute(String name) {
+    attributes.put(name, REMOVED);
+  }
+
+  private static boolean isInherited(String name) {
+    return !name.startsWith("org.springframework.") && !name.startsWith("jakarta.")
+        && !name.endsWith(OncePerRequestFilter.ALREADY_FILTERED_SUFFIX);
+  }
+
+  @Override
+  public DispatcherType getDispatcherType() {
+    return DispatcherType.REQUEST;
+  }
+
+  @Override
+  public boolean isAsyncSupported() {
+    return false;
+  }
+
+  @Override
+  public boolean isAsyncStarted() {
+    return false;
+  }
+
+  @Override
+  public AsyncContext startAsync() {
+    throw new IllegalStateException("Asynchronous handlers cannot be batched");
+  }
+
+  @Override
+  public AsyncContext startAsync(ServletRequest request, ServletResponse response) {
+    throw new IllegalStateException("Asynchronous handlers cannot be batched");
+  }
+
+}
@@ -0,0 +1,356 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+
+/**
+ * Response of a batched sub-request, kept in memory and never written to the batch response.
+ */
+@NullMarked
+final class BatchSubResponse extends HttpServletResponseWrapper {
+
+  private final ByteArrayOutputStream content = new ByteArrayOutputStream(1024);
+
+  private final HttpHeaders headers = new HttpHeaders();
+
+  private int status = SC_OK;
+
+  @Nullable
+  private Charset characterEncoding;
+
+  @Nullable
+  private String contentType;
+
+  @Nullable
+  private PrintWriter writer;
+
+  private Locale locale = Locale.getDefault();
+
+  private boolean committed;
+
+  BatchSubResponse(HttpServletResponse batchResponse) {
+    super(batchResponse);
+  }
+
+  byte[] body() {
+    if (writer != null) {
+      writer.flush();
+    }
+    return content.toByteArray();
+  }
+
+  /**
+   * Headers of the response, except those only meaningful on the wire.
+   */
+  Map<String, List<String>> headers() {
+    Map<String, List<String>> copy = new LinkedHashMap<>();
+    headers.forEach((name, values) -> {
+      if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+        copy.put(name, List.copyOf(values));
+      }
+    });
+    return copy;
+  }
+
+  @Override
+  public void setStatus(int status) {
+    if (!committed) {
+      this.status = status;
+    }
+  }
+
+  @Override
+  public int getStatus() {
+    return status;
+  }
+
+  @Override
+  public void sendError(int status) {
+    sendError(status, null);
+  }
+
+  @Override
+  public void sendError(int status, @Nullable String message) {
+    // no error page is rendered for sub-requests
+    this.status = status;
+    this.committed = true;
+  }
+
+  @Override
+  public void sendRedirect(String location) {
+    sendRedirect(location, SC_FOUND, true);
+  }
+
+  @Override
+  public void sendRedirect(String location, int status) {
+    sendRedirect(location, status, true);
+  }
+
+  @Override
+  public void sendRedirect(String location, boolean clearBuffer) {
+    sendRedirect(location, SC_FOUND, clearBuffer);
+  }
+
+  @Override
+  public void sendRedirect(String location, int status, boolean clearBuffer) {
+    headers.set(HttpHeaders.LOCATION, location);
+    this.status = status;
+    this.committed = true;
+  }
+
+  @Override
+  public void addCookie(Cookie cookie) {
+    headers.add(HttpHeaders.SET_COOKIE, ResponseCookie.from(cookie.getName(), cookie.getValue())
+        .path(cookie.getPath())
+        .domain(cookie.getDomain())
+        .maxAge(cookie.getMaxAge())
+        .secure(cookie.getSecure())
+        .httpOnly(cookie.isHttpOnly())
+        .build()
+        .toString());
+  }
+
+  @Override
+  public boolean containsHeader(String name) {
+    return headers.containsHeader(name);
+  }
+
+  @Override
+  public void setHeader(String name, @Nullable String value) {
+    if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) && value != null) {
+      setContentType(value);
+    } else if (value == null) {
+      headers.remove(name);
+    } else {
+      headers.set(name, value);
+    }
+  }
+
+  @Override
+  public void addHeader(String name, @Nullable String value) {
+    if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name) && value != null) {
+      setContentType(value);
+    } else if (value != null) {
+      headers.add(name, value);
+    }
+  }
+
+  @Override
+  public void setIntHeader(String name, int value) {
+    headers.set(name, Integer.toString(value));
+  }
+
+  @Override
+  public void addIntHeader(String name, int value) {
+    headers.add(name, Integer.toString(value));
+  }
+
+  @Override
+  public void setDateHeader(String name, long date) {
+    headers.set(name, formatDate(date));
+  }
+
+  @Override
+  public void addDateHeader(String name, long date) {
+    headers.add(name, formatDate(date));
+  }
+
+  @Override
+  public @Nullable String getHeader(String name) {
+    return headers.getFirst(name);
+  }
+
+  @Override
+  public Collection<String> getHeaders(String name) {
+    return headers.getValuesAsList(name);
+  }
+
+  @Override
+  public Collection<String> getHeaderNames() {
+    return headers.headerNames();
+  }
+
+  @Override
+  public void setContentType(@Nullable String contentType) {
+    if (contentType == null) {
+      this.contentType = null;
+      headers.remove(HttpHeaders.CONTENT_TYPE);
+      return;
+    }
+    MediaType mediaType = MediaType.parseMediaType(contentType);
+    if (mediaType.getCharset() != null) {
+      characterEncoding = mediaType.getCharset();
+    } else if (characterEncoding != null) {
+      mediaType = new MediaType(mediaType, characterEncoding);
+    }
+    this.contentType = mediaType.toString();
+    headers.set(HttpHeaders.CONTENT_TYPE, this.contentType);
+  }
+
+  @Override
+  public @Nullable String getContentType() {
+    return contentType;
+  }
+
+  @Override
+  public void setCharacterEncoding(@Nullable String charset) {
+    setCharacterEncoding(charset == null ? null : Charset.forName(charset));
+  }
+
+  @Override
+  public void setCharacterEncoding(@Nullable Charset charset) {
+    characterEncoding = charset;
+    if (contentType != null && charset != null) {
+      setContentType(new MediaType(MediaType.parseMediaType(contentType), charset).toString());
+    }
+  }
+
+  @Override
+  public String getCharacterEncoding() {
+    return (characterEncoding == null ? StandardCharsets.ISO_8859_1 : characterEncoding).name();
+  }
+
+  @Override
+  public void setContentLength(int length) {
+  }
+
+  @Override
+  public void setContentLengthLong(long length) {
+  }
+
+  @Override
+  public ServletOutputStream getOutputStream() {
+    return new ServletOutputStream() {
+
+      @Override
+      public void write(int b) {
+        content.write(b);
+      }
+
+      @Override
+      public void write(byte[] bytes, int offset, int length) {
+        content.write(bytes, offset, length);
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setWriteListener(WriteListener listener) {
+        throw new UnsupportedOperationException("Sub-requests are not asynchronous");
+      }
+    };
+  }
+
+  @Override
+  public PrintWriter getWriter() {
+    if (writer == null) {
+      writer = new PrintWriter(new OutputStreamWriter(content,
+          Charset.forName(getCharacterEncoding())));
+    }
+    return writer;
+  }
+
+  @Override
+  public void setBufferSize(int size) {
+  }
+
+  @Override
+  public int getBufferSize() {
+    return content.size();
+  }
+
+  @Override
+  public void flushBuffer() {
+    if (writer != null) {
+      writer.flush();
+    }
+    committed = true;
+  }
+
+  @Override
+  public boolean isCommitted() {
+    return committed;
+  }
+
+  @Override
+  public void reset() {
+    resetBuffer();
+    headers.clear();
+    status = SC_OK;
+    contentType = null;
+    characterEncoding = null;
+  }
+
+  @Override
+  public void resetBuffer() {
+    if (committed) {
+      throw new IllegalStateException("Response already committed");
+    }
+    content.reset();
+  }
+
+  @Override
+  public void setLocale(Locale locale) {
+    this.locale = locale;
+  }
+
+  @Override
+  public Locale getLocale() {
+    return locale;
+  }
+
+  private static String formatDate(long date) {
+    return DateTimeFormatter.RFC_1123_DATE_TIME.format(
+        Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+  }
+
+}
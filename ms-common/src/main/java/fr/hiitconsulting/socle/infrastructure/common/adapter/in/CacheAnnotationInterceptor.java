@@ -28,64 +28,48 @@ package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
 import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
 
 import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.CacheControl;
+import fr.hiitconsulting.socle.infrastructure.common.route.CacheDirectives;
+import fr.hiitconsulting.socle.infrastructure.common.route.RouteRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.util.ArrayList;
-import java.util.List;
+import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/**
+ * Sets the <code>Cache-Control</code> header of the {@link CacheControl} methods, and of the
+ * routes declaring directives in <code>app.routes</code>, the annotation providing the
+ * directives the route leaves unset.
+ */
 @NullMarked
+@RequiredArgsConstructor
 public class CacheAnnotationInterceptor implements HandlerInterceptor {
 
+  @Nullable
+  private final RouteRegistry routes;
 
   @Override
   public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
       Object handler) {
 
-    if (handler instanceof HandlerMethod hm) {
-
-      handleCacheControlAnnotation(response, hm.getMethodAnnotation(CacheControl.class));
-
-    }
-
+    CacheControl annotation = handler instanceof HandlerMethod hm
+        ? hm.getMethodAnnotation(CacheControl.class) : null;
+    handleCacheControl(request, response, annotation);
     return true;
   }
 
-  private void handleCacheControlAnnotation(HttpServletResponse response,
+  private void handleCacheControl(HttpServletRequest request, HttpServletResponse response,
       @Nullable CacheControl annotation) {
-    if (annotation == null) {
-      return;
+    CacheDirectives defaults = annotation == null ? null : CacheDirectives.of(annotation);
+    CacheDirectives directives = routes == null ? null
+        : routes.current().find(request).cacheControl();
+    directives = directives == null ? defaults : directives.orElse(defaults);
+    String value = directives == null ? "" : directives.toHeaderValue();
+    if (!value.isEmpty()) {
+      response.setHeader(CACHE_CONTROL, value);
     }
-
-    List<String> headerValues = new ArrayList<>();
-    if (annotation.noCache()) {
-      headerValues.add("no-cache");
-
-      if (annotation.noStore()) {
-        headerValues.add("no-store");
-      }
-    } else {
-      if (annotation.privateCache()) {
-        headerValues.add("private");
-      }
-
-      if (annotation.maxAge() > 0) {
-        headerValues.add("max-age=" + annotation.maxAge());
-      }
-
-      if (annotation.staleWhileRevalidate() > 0) {
-        headerValues.add("stale-while-revalidate=" + annotation.staleWhileRevalidate());
-      }
-    }
-
-    response.setHeader(CACHE_CONTROL, String.join(", ", headerValues));
   }
 
 }
-
-
-
-
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Copies a buffered response so that it can be written again to other requests.
+ */
+@NullMarked
+@UtilityClass
+class CapturedResponses {
+
+  /**
+   * Headers specific to the request that produced the response, in lower case: its correlation
+   * identifier, cookies and rate limit budget.
+   */
+  private static final Set<String> REQUEST_HEADERS = Set.of(
+      CorrelationIdFilter.CORRELATION_ID_HEADER.toLowerCase(),
+      HttpHeaders.CONTENT_LENGTH.toLowerCase(), HttpHeaders.SET_COOKIE.toLowerCase(),
+      RateLimitFilter.RATE_LIMIT_LIMIT.toLowerCase(),
+      RateLimitFilter.RATE_LIMIT_REMAINING.toLowerCase(),
+      RateLimitFilter.RATE_LIMIT_RESET.toLowerCase());
+
+  /**
+   * Headers of the response, except those specific to the request that produced it.
+   */
+  static Map<String, List<String>> headers(ContentCachingResponseWrapper response) {
+    Map<String, List<String>> headers = new LinkedHashMap<>();
+    for (String name : response.getHeaderNames()) {
+      if (!REQUEST_HEADERS.contains(name.toLowerCase())) {
+        headers.put(name, List.copyOf(response.getHeaders(name)));
+      }
+    }
+    if (response.getContentType() != null) {
+      headers.put(HttpHeaders.CONTENT_TYPE, List.of(response.getContentType()));
+    }
+    return headers;
+  }
+
+  static void write(int status, Map<String, List<String>> headers, byte[] body,
+      HttpServletResponse target) throws IOException {
+    target.setStatus(status);
+    headers.forEach((name, values) -> values.forEach(value -> target.addHeader(name, value)));
+    target.setContentLength(body.length);
+    target.getOutputStream().write(body);
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.infrastructure.common.trace.TraceContext;
+import fr.hiitconsulting.socle.infrastructure.common.trace.TraceContextHolder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Binds the W3C trace context of each request.
+ *
+ * <br><br>
+ * The incoming <code>traceparent</code> header is continued when valid, otherwise a new trace
+ * is started. The trace identifier is echoed in the {@value #CORRELATION_ID_HEADER} response
+ * header and kept on the request so that async dispatches log under the same identifiers.
+ */
+@NullMarked
+public class CorrelationIdFilter extends OncePerRequestFilter implements Ordered {
+
+  public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+
+  private static final String CONTEXT_ATTRIBUTE = CorrelationIdFilter.class.getName() + ".CONTEXT";
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain)
+      throws ServletException, IOException {
+
+    TraceContext context = (TraceContext) request.getAttribute(CONTEXT_ATTRIBUTE);
+    if (context == null) {
+      context = TraceContext.parse(request.getHeader(TraceContext.TRACEPARENT));
+      context = context == null ? TraceContext.generate() : context.child();
+      request.setAttribute(CONTEXT_ATTRIBUTE, context);
+      response.setHeader(CORRELATION_ID_HEADER, context.traceId());
+    }
+
+    try {
+      TraceContextHolder.call(context, () -> {
+        filterChain.doFilter(request, response);
+        return null;
+      });
+    } catch (IOException | ServletException | RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      // the filter chain throws no other checked exception
+      throw new ServletException(e);
+    }
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+}
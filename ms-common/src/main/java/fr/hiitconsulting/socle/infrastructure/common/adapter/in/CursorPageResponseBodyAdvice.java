@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.domain.shared.pagination.Cursor;
+import fr.hiitconsulting.socle.domain.shared.pagination.CursorPage;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.CursorPageQuery;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.PageQuery;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Renders <code>CursorPage</code> response bodies with their encoded cursors, in the body and
+ * in a <code>Link</code> header pointing at the next and previous pages.
+ */
+@NullMarked
+@ControllerAdvice
+public class CursorPageResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+  @Override
+  public boolean supports(MethodParameter returnType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    return AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+  }
+
+  @Override
+  public @Nullable Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+      ServerHttpResponse response) {
+    if (!(body instanceof CursorPage<?> page)) {
+      return body;
+    }
+
+    Cursor nextCursor = page.next();
+    Cursor previousCursor = page.previous();
+    String next = nextCursor == null ? null : nextCursor.encode();
+    String previous = previousCursor == null ? null : previousCursor.encode();
+    List<String> links = new ArrayList<>(2);
+    if (next != null) {
+      links.add(link(request, next, "next"));
+    }
+    if (previous != null) {
+      links.add(link(request, previous, "prev"));
+    }
+    if (!links.isEmpty()) {
+      response.getHeaders().set(HttpHeaders.LINK, String.join(", ", links));
+    }
+    return new CursorPageQuery<>(page.items(), new PageQuery(page.items().size(), next, previous));
+  }
+
+  private static String link(ServerHttpRequest request, String cursor, String relation) {
+    String uri = UriComponentsBuilder.fromUri(request.getURI())
+        .replaceQueryParam(CursorRequestArgumentResolver.CURSOR_PARAM, cursor)
+        .build()
+        .toUriString();
+    return "<" + uri + ">; rel=\"" + relation + "\"";
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.domain.shared.pagination.CursorRequest;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.CursorPaging;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Binds <code>CursorRequest</code> controller parameters from the query parameters, as
+ * configured by their {@link CursorPaging} annotation.
+ */
+@NullMarked
+public class CursorRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+  public static final String CURSOR_PARAM = "cursor";
+  public static final String SIZE_PARAM = "size";
+  public static final String SORT_PARAM = "sort";
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    return CursorRequest.class.equals(parameter.getParameterType());
+  }
+
+  @Override
+  public CursorRequest resolveArgument(MethodParameter parameter,
+      @Nullable ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
+      @Nullable WebDataBinderFactory binderFactory) {
+    CursorPaging paging = parameter.getParameterAnnotation(CursorPaging.class);
+    List<String> sortable = paging == null
+        ? List.of(CursorPaging.DEFAULT_SORT) : List.of(paging.sortable());
+    String defaultSort = paging == null || paging.defaultSort().isEmpty()
+        ? sortable.getFirst() : paging.defaultSort();
+
+    return CursorRequest.of(webRequest.getParameter(CURSOR_PARAM),
+        size(webRequest.getParameter(SIZE_PARAM)), webRequest.getParameter(SORT_PARAM),
+        sortable, defaultSort,
+        paging == null ? CursorPaging.DEFAULT_SIZE : paging.defaultSize(),
+        paging == null ? CursorPaging.MAX_SIZE : paging.maxSize());
+  }
+
+  private static @Nullable Integer size(@Nullable String size) {
+    if (size == null || size.isBlank()) {
+      return null;
+    }
+    try {
+      return Integer.valueOf(size.trim());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          "Le champ [" + SIZE_PARAM + "='" + size + "'] doit être un nombre.", e);
+    }
+  }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.DeadlineExceededException;
+import fr.hiitconsulting.socle.infrastructure.common.deadline.Deadline;
+import fr.hiitconsulting.socle.infrastructure.common.deadline.DeadlineHolder;
+import fr.hiitconsulting.socle.infrastructure.common.route.RouteMatcher;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+/**
+ * Binds the {@link Deadline} of each request, from the time left to the client sent in the
+ * deadline header, or from the timeout configured for the route, whichever is shorter.
+ *
+ * <br><br>
+ * Requests received past their deadline are answered with a <code>504 Gateway Timeout</code>
+ * through the {@link RestResponseExceptionHandler} without being handled. Handlers stop
+ * cooperatively by calling {@link DeadlineHolder#check()}, and outbound calls fail once the
+ * deadline has passed or carry the time left otherwise.
+ *
+ * <br><br>
+ * Requests rejected on arrival and requests whose handler was stopped by
+ * {@link Deadline#check()} are counted by the <code>http.server.requests.abandoned</code>
+ * metric.
+ */
+@NullMarked
+public class DeadlineFilter extends OncePerRequestFilter implements Ordered, MeterBinder {
+
+  /**
+   * Longest time left accepted from the deadline header, longer ones being shortened to it.
+   */
+  public static final Duration MAXIMUM_REQUESTED_TIMEOUT = Duration.ofDays(1);
+
+  /**
+   * After the statistics filter, so that rejected requests are measured.
+   */
+  public static final int ORDER = StatisticsFilter.ORDER + 1;
+
+  private final String header;
+  private final @Nullable Duration defaultTimeout;
+  private final RouteMatcher matcher;
+  private final List<Duration> timeouts;
+  private final ObjectProvider<HandlerExceptionResolver> exceptionResolver;
+  private final LongAdder abandonedRequests = new LongAdder();
+
+  public DeadlineFilter(AppProperties.RequestDeadline properties,
+      ObjectProvider<HandlerExceptionResolver> exceptionResolver) {
+    this.header = properties.getHeader();
+    this.defaultTimeout = properties.getDefaultTimeout();
+    this.matcher = RouteMatcher.compile(properties.getRoutes());
+    this.timeouts = properties.getRoutes().stream()
+        .map(AppProperties.DeadlineRoute::getTimeout)
+        .toList();
+    this.exceptionResolver = exceptionResolver;
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain)
+      throws ServletException, IOException {
+
+    Deadline deadline;
+    if (isAsyncDispatch(request)) {
+      deadline = (Deadline) request.getAttribute(Deadline.ATTRIBUTE);
+    } else {
+      Duration timeout = timeout(request);
+      deadline = timeout == null ? null : Deadline.after(timeout);
+    }
+    if (deadline == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    request.setAttribute(Deadline.ATTRIBUTE, deadline);
+    try {
+      deadline.check();
+    } catch (DeadlineExceededException e) {
+      abandonedRequests.increment();
+      HandlerExceptionResolver resolver = exceptionResolver.getIfAvailable();
+      if (resolver == null || resolver.resolveException(request, response, null, e) == null) {
+        throw e;
+      }
+      return;
+    }
+
+    try {
+      DeadlineHolder.call(deadline, () -> {
+        filterChain.doFilter(request, response);
+        return null;
+      });
+    } catch (IOException | ServletException | RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      // the filter chain throws no other checked exception
+      throw new ServletException(e);
+    } finally {
+      if (!request.isAsyncStarted() && deadline.isExceeded()) {
+        abandonedRequests.increment();
+      }
+    }
+  }
+
+  private @Nullable Duration timeout(HttpServletRequest request) {
+    Duration timeout = routeTimeout(request);
+    String value = request.getHeader(header);
+    if (value != null) {
+      try {
+        long millis = Long.parseLong(value.trim());
+        if (millis >= 0) {
+          Duration requested =
+              Duration.ofMillis(Math.min(millis, MAXIMUM_REQUESTED_TIMEOUT.toMillis()));
+          if (timeout == null || requested.compareTo(timeout) < 0) {
+            timeout = requested;
+          }
+        }
+      } catch (NumberFormatException e) {
+        // a malformed header is ignored, as if it were not sent
+      }
+    }
+    return timeout;
+  }
+
+  private @Nullable Duration routeTimeout(HttpServletRequest request) {
+    int index = matcher.indexOf(request);
+    return index < 0 ? defaultTimeout : timeouts.get(index);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("http.server.requests.abandoned", abandonedRequests, LongAdder::sum)
+        .description("Requests abandoned because their deadline passed")
+        .register(registry);
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.infrastructure.common.jfr.EtagEvent;
+import fr.hiitconsulting.socle.infrastructure.common.route.RouteRegistry;
+import fr.hiitconsulting.socle.infrastructure.common.statistics.HotPathStatistics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * {@link ShallowEtagHeaderFilter} recording the hashing of each body as an {@link EtagEvent},
+ * and in the {@link HotPathStatistics} when available.
+ *
+ * <br><br>
+ * Requests for a {@link FileDownload} are not buffered, their ETag being derived from the file,
+ * nor the ones of the routes turning the ETag off in <code>app.routes</code>.
+ */
+@NullMarked
+@RequiredArgsConstructor
+public class EtagFilter extends ShallowEtagHeaderFilter {
+
+  @Nullable
+  private final HotPathStatistics statistics;
+
+  @Nullable
+  private final FileDownloadRequestMatcher downloads;
+
+  @Nullable
+  private final RouteRegistry routes;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return downloads != null && downloads.matches(request)
+        || routes != null && !routes.current().find(request).etag();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain)
+      throws ServletException, IOException {
+    super.doFilterInternal(request, response, filterChain);
+    if (statistics != null && !isAsyncStarted(request)
+        && response.getStatus() == HttpServletResponse.SC_NOT_MODIFIED) {
+      statistics.recordNotModified();
+    }
+  }
+
+  @Override
+  protected String generateETagHeaderValue(InputStream inputStream, boolean isWeak)
+      throws IOException {
+    long bytes = inputStream.available();
+    if (statistics != null) {
+      statistics.recordEtag(bytes);
+    }
+
+    EtagEvent event = new EtagEvent();
+    if (!event.isEnabled()) {
+      return super.generateETagHeaderValue(inputStream, isWeak);
+    }
+
+    event.begin();
+    try {
+      return super.generateETagHeaderValue(inputStream, isWeak);
+    } finally {
+      event.complete(bytes);
+    }
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+/**
+ * File returned by a controller method, written by the {@link FileDownloadReturnValueHandler}
+ * straight from disk with <code>Range</code> support.
+ *
+ * <br><br>
+ * The file must exist until the response is complete: it may be sent by the container after the
+ * method returned.
+ */
+@NullMarked
+public record FileDownload(Path path, MediaType contentType,
+                           @Nullable ContentDisposition contentDisposition) {
+
+  /**
+   * Downloads the file inline, with the content type guessed from its extension.
+   */
+  public static FileDownload of(Path path) {
+    Path fileName = path.getFileName();
+    MediaType contentType = fileName == null ? MediaType.APPLICATION_OCTET_STREAM
+        : MediaTypeFactory.getMediaType(fileName.toString())
+            .orElse(MediaType.APPLICATION_OCTET_STREAM);
+    return new FileDownload(path, contentType, null);
+  }
+
+  public FileDownload withContentType(MediaType contentType) {
+    return new FileDownload(path, contentType, contentDisposition);
+  }
+
+  /**
+   * Asks the client to save the file under the given name.
+   */
+  public FileDownload asAttachment(String filename) {
+    return new FileDownload(path, contentType, ContentDisposition.attachment()
+        .filename(filename, StandardCharsets.UTF_8)
+        .build());
+  }
+
+}
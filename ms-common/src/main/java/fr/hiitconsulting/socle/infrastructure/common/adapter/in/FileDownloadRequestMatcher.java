@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+/**
+ * Tells whether a request is mapped to a method returning a {@link FileDownload}, so that the
+ * filters buffering the response body leave it alone.
+ *
+ * <br><br>
+ * Requests are only matched against the mappings of these methods, when the application declares
+ * any, and the outcome is kept as a request attribute for the next filters.
+ */
+@NullMarked
+@RequiredArgsConstructor
+public class FileDownloadRequestMatcher {
+
+  private static final String MATCH_ATTRIBUTE =
+      FileDownloadRequestMatcher.class.getName() + ".MATCH";
+
+  private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+  @Nullable
+  private volatile List<RequestMappingInfo> downloadMappings;
+
+  public boolean matches(HttpServletRequest request) {
+    if (request.getAttribute(MATCH_ATTRIBUTE) instanceof Boolean match) {
+      return match;
+    }
+
+    List<RequestMappingInfo> mappings = downloadMappings();
+    boolean match = !mappings.isEmpty() && matches(request, mappings);
+    request.setAttribute(MATCH_ATTRIBUTE, match);
+    return match;
+  }
+
+  private boolean matches(HttpServletRequest request, List<RequestMappingInfo> mappings) {
+    boolean parsed = ServletRequestPathUtils.hasParsedRequestPath(request);
+    try {
+      if (!parsed) {
+        ServletRequestPathUtils.parseAndCache(request);
+      }
+      for (RequestMappingInfo mapping : mappings) {
+        if (mapping.getMatchingCondition(request) != null) {
+          return true;
+        }
+      }
+      return false;
+    } catch (RuntimeException e) {
+      return false;
+    } finally {
+      if (!parsed) {
+        ServletRequestPathUtils.clearParsedRequestPath(request);
+      }
+    }
+  }
+
+  private List<RequestMappingInfo> downloadMappings() {
+    List<RequestMappingInfo> result = downloadMappings;
+    if (result == null) {
+      RequestMappingHandlerMapping mapping = handlerMapping.getIfAvailable();
+      if (mapping == null) {
+        return List.of();
+      }
+      result = mapping.getHandlerMethods().entrySet().stream()
+          .filter(entry -> FileDownload.class.isAssignableFrom(
+              entry.getValue().getReturnType().getParameterType()))
+          .map(Map.Entry::getKey)
+          .toList();
+      downloadMappings = result;
+    }
+    return result;
+  }
+
+}
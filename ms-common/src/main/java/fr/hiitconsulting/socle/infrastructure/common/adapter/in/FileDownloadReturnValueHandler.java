@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Writes the {@link FileDownload} returned by a controller method without loading the file in
+ * memory.
+ *
+ * <br><br>
+ * The ETag is derived from the modification time and size of the file, so that conditional
+ * requests are answered without reading it. A single byte range is served with a
+ * <code>206 Partial Content</code>, provided <code>If-Range</code> still matches, and several
+ * ranges with the whole file.
+ * <br><br>
+ * The file is handed over to Tomcat for a <code>sendfile</code> when the connector supports it
+ * and no filter buffers the response, and copied with {@link FileChannel#transferTo} otherwise.
+ * A {@code null} download is answered with a <code>404 Not Found</code>.
+ */
+@NullMarked
+public class FileDownloadReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  /**
+   * Below this size, copying is cheaper than a <code>sendfile</code>, as for Tomcat's default
+   * servlet.
+   */
+  private static final long SENDFILE_MINIMUM_SIZE = 48 * 1024;
+
+  @Override
+  public boolean supportsReturnType(MethodParameter returnType) {
+    return FileDownload.class.isAssignableFrom(returnType.getParameterType());
+  }
+
+  @Override
+  public void handleReturnValue(@Nullable Object returnValue, MethodParameter returnType,
+      ModelAndViewContainer mavContainer, NativeWebRequest webRequest)
+      throws IOException {
+
+    mavContainer.setRequestHandled(true);
+    HttpServletRequest request =
+        Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class));
+    HttpServletResponse response =
+        Objects.requireNonNull(webRequest.getNativeResponse(HttpServletResponse.class));
+
+    if (!(returnValue instanceof FileDownload download)) {
+      response.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+
+    BasicFileAttributes attributes =
+        Files.readAttributes(download.path(), BasicFileAttributes.class);
+    long length = attributes.size();
+    long lastModified = attributes.lastModifiedTime().toMillis();
+    String etag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(length) + "\"";
+
+    response.setHeader(HttpHeaders.ETAG, etag);
+    response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+      return;
+    }
+    ShallowEtagHeaderFilter.disableContentCaching(request);
+
+    long start = 0;
+    long count = length;
+    HttpRange range = range(request, etag, lastModified);
+    if (range != null) {
+      long end;
+      try {
+        start = range.getRangeStart(length);
+        end = range.getRangeEnd(length);
+      } catch (IllegalArgumentException e) {
+        end = -1;
+      }
+      if (end < start) {
+        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+        return;
+      }
+      count = end - start + 1;
+      response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      response.setHeader(HttpHeaders.CONTENT_RANGE,
+          "bytes " + start + "-" + end + "/" + length);
+    }
+
+    response.setContentType(download.contentType().toString());
+    ContentDisposition contentDisposition = download.contentDisposition();
+    if (contentDisposition != null) {
+      response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString());
+    }
+    transfer(download.path(), start, count, request, response);
+  }
+
+  /**
+   * Returns the range to serve, or {@code null} for the whole file.
+   */
+  private static @Nullable HttpRange range(HttpServletRequest request, String etag,
+      long lastModified) {
+    String header = request.getHeader(HttpHeaders.RANGE);
+    if (header == null || !HttpMethod.GET.matches(request.getMethod())
+        || !ifRangeMatches(request, etag, lastModified)) {
+      return null;
+    }
+
+    try {
+      List<HttpRange> ranges = HttpRange.parseRanges(header);
+      return ranges.size() == 1 ? ranges.getFirst() : null;
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static boolean ifRangeMatches(HttpServletRequest request, String etag,
+      long lastModified) {
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (ifRange == null) {
+      return true;
+    }
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+      return ifRange.equals(etag);
+    }
+
+    try {
+      return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private static void transfer(Path path, long start, long count, HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
+
+    boolean buffered =
+        WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class) != null;
+    if (!buffered) {
+      response.setContentLengthLong(count);
+    }
+    if (count == 0 || HttpMethod.HEAD.matches(request.getMethod())) {
+      return;
+    }
+
+    if (!buffered && count >= SENDFILE_MINIMUM_SIZE
+        && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START, start);
+      request.setAttribute(SENDFILE_END, start + count);
+      return;
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+      long position = start;
+      long end = start + count;
+      while (position < end) {
+        long transferred = channel.transferTo(position, end - position, target);
+        if (transferred <= 0) {
+          throw new EOFException("File truncated while being downloaded: " + path);
+        }
+        position += transferred;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,441 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.IdempotencyKeyConflictException;
+import fr.hiitconsulting.socle.infrastructure.common.idempotency.IdempotencyStore;
+import fr.hiitconsulting.socle.infrastructure.common.idempotency.IdempotentResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Replays the response of unsafe requests sent again with the same {@value #IDEMPOTENCY_KEY}
+ * header.
+ *
+ * <br><br>
+ * The first request executes and its response (status, headers and body,
+ * <code>Set-Cookie</code> excepted) is kept in the {@link IdempotencyStore}, server errors and
+ * <code>429 Too Many Requests</code> excepted so that they can be retried. Duplicates received
+ * meanwhile wait for it instead of executing. A key reused with another method, path or body, or
+ * whose original request is still running after the wait timeout, is answered with a
+ * <code>409 Conflict</code> through the {@link RestResponseExceptionHandler}.
+ * <br><br>
+ * Keys are scoped to the authenticated principal, or else to the client address, so that a key
+ * sent by another client never replays a response. The filter therefore runs after the Spring
+ * Security filter chain and the {@link RateLimitFilter}.
+ * <br><br>
+ * Requests for a {@link FileDownload} are not replayed, their body being too large to keep, nor
+ * are requests whose body exceeds the maximum body size, which execute as if they had no key.
+ */
+@NullMarked
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter implements Ordered {
+
+  public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+  public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+  /**
+   * After the Spring Security filter chain and the rate limiting.
+   */
+  public static final int ORDER = RateLimitFilter.ORDER + 1;
+
+  private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+  private static final String FINGERPRINT_ATTRIBUTE =
+      IdempotencyFilter.class.getName() + ".FINGERPRINT";
+
+  private final IdempotencyStore store;
+  private final Duration waitTimeout;
+  private final long maximumBodySize;
+  private final ObjectProvider<HandlerExceptionResolver> exceptionResolver;
+  @Nullable
+  private final FileDownloadRequestMatcher downloads;
+  private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight =
+      new ConcurrentHashMap<>();
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return SAFE_METHODS.contains(request.getMethod())
+        || request.getHeader(IDEMPOTENCY_KEY) == null
+        || downloads != null && downloads.matches(request);
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain)
+      throws ServletException, IOException {
+
+    if (isAsyncDispatch(request) && request.getAttribute(FINGERPRINT_ATTRIBUTE) == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    String key = scope(request) + " "
+        + Objects.requireNonNull(request.getHeader(IDEMPOTENCY_KEY));
+    HttpServletRequest requestToUse = request;
+    HttpServletResponse responseToUse = response;
+
+    if (!isAsyncDispatch(request)) {
+      MessageDigest digest = sha256();
+      if (isForm(request)) {
+        digestParameters(request, digest);
+      } else if (isMultipart(request)) {
+        digestParts(request, digest);
+      } else {
+        BufferedBodyRequest buffered = BufferedBodyRequest.read(request, maximumBodySize);
+        if (!buffered.isComplete()) {
+          filterChain.doFilter(buffered, response);
+          return;
+        }
+        digest.update(buffered.body());
+        requestToUse = buffered;
+      }
+
+      String fingerprint = request.getMethod() + " " + request.getRequestURI() + " "
+          + HexFormat.of().formatHex(digest.digest());
+      IdempotentResponse previous;
+      try {
+        previous = acquire(key, fingerprint);
+      } catch (IdempotencyKeyConflictException e) {
+        resolve(request, response, e);
+        return;
+      }
+
+      if (previous != null) {
+        replay(previous, response);
+        return;
+      }
+      request.setAttribute(FINGERPRINT_ATTRIBUTE, fingerprint);
+      responseToUse = new ContentCachingResponseWrapper(response);
+    }
+
+    try {
+      filterChain.doFilter(requestToUse, responseToUse);
+    } catch (IOException | ServletException | RuntimeException e) {
+      release(key, e);
+      throw e;
+    }
+
+    if (!isAsyncStarted(request)) {
+      ContentCachingResponseWrapper wrapper = Objects.requireNonNull(
+          WebUtils.getNativeResponse(responseToUse, ContentCachingResponseWrapper.class));
+      complete(key, (String) request.getAttribute(FINGERPRINT_ATTRIBUTE), wrapper);
+      wrapper.copyBodyToResponse();
+    }
+  }
+
+  private static String scope(HttpServletRequest request) {
+    Principal principal = request.getUserPrincipal();
+    return principal != null ? "user:" + principal.getName() : "ip:" + request.getRemoteAddr();
+  }
+
+  private static boolean isForm(HttpServletRequest request) {
+    return hasContentType(request, MediaType.APPLICATION_FORM_URLENCODED);
+  }
+
+  private static boolean isMultipart(HttpServletRequest request) {
+    return hasContentType(request, MediaType.MULTIPART_FORM_DATA);
+  }
+
+  private static boolean hasContentType(HttpServletRequest request, MediaType type) {
+    try {
+      return request.getContentType() != null
+          && type.includes(MediaType.parseMediaType(request.getContentType()));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Form bodies are read by the container to resolve the parameters, so they are digested
+   * through the sorted parameters rather than the input stream.
+   */
+  private static void digestParameters(HttpServletRequest request, MessageDigest digest) {
+    new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+      for (String value : values) {
+        digest.update((name + '=' + value + '&').getBytes(StandardCharsets.UTF_8));
+      }
+    });
+  }
+
+  private static void digestParts(HttpServletRequest request, MessageDigest digest)
+      throws IOException, ServletException {
+    Map<String, Part> parts = new TreeMap<>();
+    for (Part part : request.getParts()) {
+      parts.put(part.getName() + '/' + part.getSubmittedFileName(), part);
+    }
+    for (Map.Entry<String, Part> part : parts.entrySet()) {
+      digest.update(part.getKey().getBytes(StandardCharsets.UTF_8));
+      try (InputStream content = part.getValue().getInputStream()) {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+          digest.update(buffer, 0, read);
+        }
+      }
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is required on every Java platform", e);
+    }
+  }
+
+  /**
+   * Returns the response to replay, or {@code null} when the current request owns the key and
+   * must execute.
+   */
+  private @Nullable IdempotentResponse acquire(String key, String fingerprint) {
+    CompletableFuture<IdempotentResponse> pending = new CompletableFuture<>();
+    CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, pending);
+
+    if (running == null) {
+      IdempotentResponse stored = store.get(key);
+      if (stored == null) {
+        return null;
+      }
+      inFlight.remove(key, pending);
+      pending.complete(stored);
+      return checkFingerprint(stored, fingerprint);
+    }
+
+    try {
+      return checkFingerprint(running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS),
+          fingerprint);
+    } catch (TimeoutException e) {
+      throw new IdempotencyKeyConflictException(
+          "A request with the same Idempotency-Key is still in progress");
+    } catch (ExecutionException e) {
+      throw new IdempotencyKeyConflictException(
+          "The request with the same Idempotency-Key failed, retry it");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IdempotencyKeyConflictException(
+          "A request with the same Idempotency-Key is still in progress");
+    }
+  }
+
+  private IdempotentResponse checkFingerprint(IdempotentResponse response, String fingerprint) {
+    if (!response.fingerprint().equals(fingerprint)) {
+      throw new IdempotencyKeyConflictException(
+          "Idempotency-Key already used for another request");
+    }
+    return response;
+  }
+
+  private void complete(String key, String fingerprint, ContentCachingResponseWrapper response) {
+    IdempotentResponse completed = new IdempotentResponse(fingerprint, response.getStatus(),
+        CapturedResponses.headers(response), response.getContentAsByteArray());
+    if (completed.status() < 500 && completed.status() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+      store.put(key, completed);
+    }
+
+    CompletableFuture<IdempotentResponse> pending = inFlight.remove(key);
+    if (pending != null) {
+      pending.complete(completed);
+    }
+  }
+
+  private void release(String key, Exception cause) {
+    CompletableFuture<IdempotentResponse> pending = inFlight.remove(key);
+    if (pending != null) {
+      pending.completeExceptionally(cause);
+    }
+  }
+
+  private void replay(IdempotentResponse response, HttpServletResponse target)
+      throws IOException {
+    target.setHeader(IDEMPOTENT_REPLAYED, "true");
+    CapturedResponses.write(response.status(), response.headers(), response.body(), target);
+  }
+
+  private void resolve(HttpServletRequest request, HttpServletResponse response,
+      IdempotencyKeyConflictException exception) {
+    HandlerExceptionResolver resolver = exceptionResolver.getIfAvailable();
+    if (resolver == null
+        || resolver.resolveException(request, response, null, exception) == null) {
+      throw exception;
+    }
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  /**
+   * Request whose body was read ahead, up to the maximum body size, to be digested. Past that
+   * size, the rest of the body is read from the original stream.
+   */
+  private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private final boolean complete;
+    private final ServletInputStream inputStream;
+
+    private BufferedBodyRequest(HttpServletRequest request, byte[] body, boolean complete,
+        InputStream inputStream) {
+      super(request);
+      this.body = body;
+      this.complete = complete;
+      this.inputStream = new BodyInputStream(inputStream);
+    }
+
+    static BufferedBodyRequest read(HttpServletRequest request, long maximumBodySize)
+        throws IOException {
+      long contentLength = request.getContentLengthLong();
+      ServletInputStream original = request.getInputStream();
+      if (contentLength > maximumBodySize) {
+        return new BufferedBodyRequest(request, new byte[0], false, original);
+      }
+
+      byte[] prefix = original.readNBytes(
+          (int) Math.min(maximumBodySize + 1, Integer.MAX_VALUE - 8));
+      boolean complete = prefix.length <= maximumBodySize;
+      return new BufferedBodyRequest(request, prefix, complete, complete
+          ? new ByteArrayInputStream(prefix)
+          : new SequenceInputStream(new ByteArrayInputStream(prefix), original));
+    }
+
+    byte[] body() {
+      return body;
+    }
+
+    boolean isComplete() {
+      return complete;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      String encoding = getCharacterEncoding();
+      return new BufferedReader(new InputStreamReader(inputStream,
+          encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1));
+    }
+
+  }
+
+  private static final class BodyInputStream extends ServletInputStream {
+
+    private final InputStream delegate;
+    private boolean finished;
+
+    private BodyInputStream(InputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int read = delegate.read();
+      finished = read == -1;
+      return read;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = delegate.read(buffer, offset, length);
+      finished = read == -1;
+      return read;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return finished;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    /**
+     * Notifies the listener at once, the body being read ahead, or its rest readable from the
+     * original stream without waiting for the client.
+     */
+    @Override
+    public void setReadListener(ReadListener readListener) {
+      try {
+        readListener.onDataAvailable();
+        readListener.onAllDataRead();
+      } catch (IOException e) {
+        readListener.onError(e);
+      }
+    }
+
+  }
+
+}
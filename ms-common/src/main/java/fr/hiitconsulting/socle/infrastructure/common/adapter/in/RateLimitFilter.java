@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.RateLimitExceededException;
+import fr.hiitconsulting.socle.infrastructure.common.ratelimit.TokenBucket;
+import fr.hiitconsulting.socle.infrastructure.common.route.RouteMatcher;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+/**
+ * Limits the requests of each client with a {@link TokenBucket} per client and route.
+ *
+ * <br><br>
+ * Clients are identified by their principal, their address, or an authenticated API key, see
+ * {@link AppProperties.RateLimit#getKeys()}. Every response holds the
+ * <code>RateLimit-Limit</code>, <code>RateLimit-Remaining</code> and
+ * <code>RateLimit-Reset</code> headers, and the requests past the budget are answered with a
+ * <code>429 Too Many Requests</code> through the {@link RestResponseExceptionHandler}.
+ *
+ * <br><br>
+ * The buckets are kept in a Caffeine cache bounded by <code>max-clients</code>, and expire
+ * once idle for their longest period, when they would be full again anyway.
+ */
+@NullMarked
+public class RateLimitFilter extends OncePerRequestFilter implements Ordered {
+
+  public static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+  public static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+  public static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
+  /**
+   * After the Spring Security filter chain, so that the principal is known.
+   */
+  public static final int ORDER = -99;
+
+  private final List<AppProperties.RateLimitKey> keys;
+  private final String apiKeyAttribute;
+  private final RouteMatcher matcher;
+  private final List<Route> routes;
+  private final Route defaultRoute;
+  private final ObjectProvider<HandlerExceptionResolver> exceptionResolver;
+  private final Cache<BucketKey, TokenBucket> buckets;
+
+  public RateLimitFilter(AppProperties.RateLimit properties,
+      ObjectProvider<HandlerExceptionResolver> exceptionResolver) {
+    this.keys = List.copyOf(properties.getKeys());
+    this.apiKeyAttribute = properties.getApiKeyAttribute();
+    this.exceptionResolver = exceptionResolver;
+
+    this.matcher = RouteMatcher.compile(properties.getRoutes());
+    this.routes = properties.getRoutes().stream()
+        .map(route -> new Route(route.getLimit(), route.getPeriod()))
+        .toList();
+    this.defaultRoute = new Route(properties.getLimit(), properties.getPeriod());
+
+    Duration longestPeriod = Stream.concat(routes.stream(), Stream.of(defaultRoute))
+        .map(Route::period).max(Duration::compareTo).orElseThrow();
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(properties.getMaxClients())
+        .expireAfterAccess(longestPeriod)
+        .build();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain)
+      throws ServletException, IOException {
+
+    int index = matcher.indexOf(request);
+    Route route = index < 0 ? defaultRoute : routes.get(index);
+    long now = System.nanoTime();
+    TokenBucket bucket = buckets.get(new BucketKey(index, client(request)),
+        key -> new TokenBucket(route.limit(), route.period(), now));
+    long remaining = bucket.tryConsume(now);
+
+    response.setHeader(RATE_LIMIT_LIMIT, Long.toString(route.limit()));
+    if (remaining >= 0) {
+      response.setHeader(RATE_LIMIT_REMAINING, Long.toString(remaining));
+      response.setHeader(RATE_LIMIT_RESET, Long.toString(seconds(bucket.nanosUntilFull(now))));
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    long retryAfter = seconds(-remaining);
+    response.setHeader(RATE_LIMIT_REMAINING, "0");
+    response.setHeader(RATE_LIMIT_RESET, Long.toString(retryAfter));
+    RateLimitExceededException exception =
+        new RateLimitExceededException(Duration.ofSeconds(retryAfter));
+    HandlerExceptionResolver resolver = exceptionResolver.getIfAvailable();
+    if (resolver == null
+        || resolver.resolveException(request, response, null, exception) == null) {
+      throw exception;
+    }
+  }
+
+  private String client(HttpServletRequest request) {
+    for (AppProperties.RateLimitKey key : keys) {
+      String client = switch (key) {
+        case API_KEY -> request.getAttribute(apiKeyAttribute) instanceof String apiKey
+            && !apiKey.isBlank() ? "key:" + apiKey : null;
+        case PRINCIPAL -> {
+          Principal principal = request.getUserPrincipal();
+          yield principal != null ? "user:" + principal.getName() : null;
+        }
+        case IP -> "ip:" + request.getRemoteAddr();
+      };
+      if (client != null) {
+        return client;
+      }
+    }
+    return "anonymous";
+  }
+
+  private static long seconds(long nanos) {
+    return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  private record Route(long limit, Duration period) {
+
+  }
+
+  private record BucketKey(int route, String client) {
+
+  }
+
+}
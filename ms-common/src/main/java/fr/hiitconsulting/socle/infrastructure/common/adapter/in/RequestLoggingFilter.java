@@ -26,6 +26,9 @@
 package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
 
 import com.google.common.base.Stopwatch;
+import fr.hiitconsulting.socle.infrastructure.common.deadline.Deadline;
+import fr.hiitconsulting.socle.infrastructure.common.jfr.RequestEvent;
+import fr.hiitconsulting.socle.infrastructure.common.route.RouteRegistry;
 import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
@@ -41,21 +44,35 @@ import org.springframework.boot.ansi.AnsiColor;
 import org.springframework.boot.ansi.AnsiElement;
 import org.springframework.boot.ansi.AnsiOutput;
 import org.springframework.boot.ansi.AnsiStyle;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.filter.AbstractRequestLoggingFilter;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 
+/**
+ * Logs each request with its status and duration.
+ *
+ * <br><br>
+ * Requests abandoned because their deadline passed are flagged in the log, and counted by the
+ * {@link DeadlineFilter}.
+ * <br><br>
+ * The routes of <code>app.routes</code> can turn logging off or sample it.
+ */
 @NullMarked
 @RequiredArgsConstructor
 public class RequestLoggingFilter extends AbstractRequestLoggingFilter {
 
   private final AppProperties appProperties;
   @Nullable
+  private final RouteRegistry routes;
+  @Nullable
   private Pattern exclusionPattern;
 
   @PostConstruct
   void postConstruct() {
-    if (appProperties.getRequestLogging() != null) {
-      exclusionPattern = Pattern.compile(appProperties.getRequestLogging().getExclusionPattern());
+    AppProperties.RequestLogging requestLogging = appProperties.getRequestLogging();
+    if (requestLogging != null && requestLogging.getExclusionPattern() != null) {
+      exclusionPattern = Pattern.compile(requestLogging.getExclusionPattern());
     }
   }
 
@@ -63,7 +80,8 @@ public class RequestLoggingFilter extends AbstractRequestLoggingFilter {
   protected boolean shouldLog(HttpServletRequest request) {
     return logger.isInfoEnabled() &&
         !request.getRequestURI().contains("actuator") &&
-        (exclusionPattern == null || !exclusionPattern.matcher(request.getRequestURI()).matches());
+        (exclusionPattern == null || !exclusionPattern.matcher(request.getRequestURI()).matches())
+        && (routes == null || routes.current().find(request).shouldLog());
   }
 
   @Override
@@ -79,17 +97,37 @@ public class RequestLoggingFilter extends AbstractRequestLoggingFilter {
       requestToUse = new ContentCachingRequestWrapper(request, getMaxPayloadLength());
     }
 
+    RequestEvent event = isFirstRequest ? RequestEvent.begin(requestToUse)
+        : RequestEvent.current(requestToUse);
     Stopwatch stopwatch = Stopwatch.createStarted();
     try {
       filterChain.doFilter(requestToUse, response);
     } finally {
+      boolean abandoned = !isAsyncStarted(requestToUse) && isAbandoned(requestToUse);
       if (shouldLog(requestToUse) && !isAsyncStarted(requestToUse)) {
-        logger.info(
-            createMessage(requestToUse, getMessagePrefix(response.getStatus(), stopwatch), ""));
+        logger.info(createMessage(requestToUse,
+            getMessagePrefix(response.getStatus(), stopwatch),
+            abandoned ? " | abandoned, deadline exceeded" : ""));
+      }
+      if (event != null && !isAsyncStarted(requestToUse)) {
+        completeEvent(event, requestToUse, response);
       }
     }
   }
 
+  private static boolean isAbandoned(HttpServletRequest request) {
+    return request.getAttribute(Deadline.ATTRIBUTE) instanceof Deadline deadline
+        && deadline.isExceeded();
+  }
+
+  private void completeEvent(RequestEvent event, HttpServletRequest request,
+      HttpServletResponse response) {
+    Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String contentLength = response.getHeader(HttpHeaders.CONTENT_LENGTH);
+    event.complete(route != null ? route.toString() : request.getRequestURI(),
+        response.getStatus(), contentLength != null ? Long.parseLong(contentLength) : -1);
+  }
+
   private String getMessagePrefix(int status, Stopwatch stopwatch) {
     AnsiElement e;
     if (status >= 400 && status <= 499) {
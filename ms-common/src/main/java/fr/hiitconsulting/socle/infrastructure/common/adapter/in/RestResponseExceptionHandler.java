@@ -26,21 +26,32 @@
 package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.GATEWAY_TIMEOUT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 import fr.hiitconsulting.socle.domain.shared.exception.AbstractBadRequestException;
+import fr.hiitconsulting.socle.domain.shared.exception.AbstractConflictException;
 import fr.hiitconsulting.socle.domain.shared.exception.AbstractForbiddenException;
 import fr.hiitconsulting.socle.domain.shared.exception.AbstractNotFoundException;
+import fr.hiitconsulting.socle.domain.shared.exception.AbstractTooManyRequestsException;
 import fr.hiitconsulting.socle.domain.shared.exception.AbstractUnauthorizedException;
 import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.ErrorMessageQuery;
 import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.FieldErrorQuery;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.DeadlineExceededException;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.InvalidElementsException;
+import fr.hiitconsulting.socle.infrastructure.common.jfr.RequestEvent;
+import fr.hiitconsulting.socle.infrastructure.common.trace.TraceContextHolder;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -55,7 +66,7 @@ public class RestResponseExceptionHandler {
       AbstractNotFoundException exception) {
     return ResponseEntity
         .status(NOT_FOUND)
-        .body(new ErrorMessageQuery(exception.getMessage(), null));
+        .body(errorMessage(exception, exception.getMessage(), null));
   }
 
   @ExceptionHandler(AbstractForbiddenException.class)
@@ -63,7 +74,7 @@ public class RestResponseExceptionHandler {
       AbstractForbiddenException exception) {
     return ResponseEntity
         .status(FORBIDDEN)
-        .body(new ErrorMessageQuery(exception.getMessage(), null));
+        .body(errorMessage(exception, exception.getMessage(), null));
   }
 
   @ExceptionHandler(AbstractUnauthorizedException.class)
@@ -71,7 +82,33 @@ public class RestResponseExceptionHandler {
       AbstractUnauthorizedException exception) {
     return ResponseEntity
         .status(UNAUTHORIZED)
-        .body(new ErrorMessageQuery(exception.getMessage(), null));
+        .body(errorMessage(exception, exception.getMessage(), null));
+  }
+
+  @ExceptionHandler(AbstractConflictException.class)
+  public ResponseEntity<ErrorMessageQuery> handleConflictException(
+      AbstractConflictException exception) {
+    return ResponseEntity
+        .status(CONFLICT)
+        .body(errorMessage(exception, exception.getMessage(), null));
+  }
+
+  @ExceptionHandler(AbstractTooManyRequestsException.class)
+  public ResponseEntity<ErrorMessageQuery> handleTooManyRequestsException(
+      AbstractTooManyRequestsException exception) {
+    long retryAfter = Math.max(1, exception.getRetryAfter().toSeconds());
+    return ResponseEntity
+        .status(TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter))
+        .body(errorMessage(exception, exception.getMessage(), null));
+  }
+
+  @ExceptionHandler(DeadlineExceededException.class)
+  public ResponseEntity<ErrorMessageQuery> handleDeadlineExceededException(
+      DeadlineExceededException exception) {
+    return ResponseEntity
+        .status(GATEWAY_TIMEOUT)
+        .body(errorMessage(exception, exception.getMessage(), null));
   }
 
   @ExceptionHandler(AbstractBadRequestException.class)
@@ -86,7 +123,18 @@ public class RestResponseExceptionHandler {
 
     return ResponseEntity
         .status(BAD_REQUEST)
-        .body(new ErrorMessageQuery(exception.getMessage(), errors.isEmpty() ? null : errors));
+        .body(errorMessage(exception, exception.getMessage(), errors.isEmpty() ? null : errors));
+  }
+
+  @ExceptionHandler(InvalidElementsException.class)
+  public ResponseEntity<ErrorMessageQuery> handleInvalidElementsException(
+      InvalidElementsException exception) {
+    List<FieldErrorQuery> errors = exception.getErrors().entrySet().stream()
+        .map(entry -> new FieldErrorQuery(entry.getKey(), entry.getValue()))
+        .toList();
+    return ResponseEntity
+        .status(BAD_REQUEST)
+        .body(errorMessage(exception, exception.getMessage(), errors));
   }
 
   @ExceptionHandler(IllegalArgumentException.class)
@@ -94,7 +142,7 @@ public class RestResponseExceptionHandler {
       IllegalArgumentException exception) {
     return ResponseEntity
         .status(BAD_REQUEST)
-        .body(new ErrorMessageQuery(exception.getMessage(), null));
+        .body(errorMessage(exception, exception.getMessage(), null));
   }
 
   @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -106,7 +154,16 @@ public class RestResponseExceptionHandler {
         .toList();
     return ResponseEntity
         .status(BAD_REQUEST)
-        .body(new ErrorMessageQuery("Validation failed", errors));
+        .body(errorMessage(ex, "Validation failed", errors));
+  }
+
+  private static ErrorMessageQuery errorMessage(Exception exception, String message,
+      @Nullable List<FieldErrorQuery> fieldErrors) {
+    RequestEvent event = RequestEvent.current();
+    if (event != null) {
+      event.exception(exception);
+    }
+    return new ErrorMessageQuery(message, fieldErrors, TraceContextHolder.currentTraceId());
   }
 
 }
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.infrastructure.common.route.RoutePolicy;
+import fr.hiitconsulting.socle.infrastructure.common.route.RouteRegistry;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.web.util.pattern.PatternParseException;
+
+/**
+ * <code>/actuator/routes</code> endpoint, reporting the policies of <code>app.routes</code> and
+ * replacing them on a POST.
+ *
+ * <br><br>
+ * The new routes are the <code>routes</code> member of the body, written as in the
+ * <code>app.routes</code> properties, such as
+ * <code>{"routes": [{"pattern": "/reports/**", "cache-control": {"max-age": "5m"}}]}</code>.
+ * They are bound and validated like the properties, and invalid routes are answered with a
+ * <code>400 Bad Request</code>, keeping the former ones.
+ */
+@NullMarked
+@RequiredArgsConstructor
+@Endpoint(id = "routes")
+public class RoutesEndpoint {
+
+  private final RouteRegistry registry;
+  private final Validator validator;
+
+  @ReadOperation
+  public Map<String, RoutePolicy> routes() {
+    return registry.current().describe();
+  }
+
+  @WriteOperation
+  public Map<String, RoutePolicy> replace(List<Map<String, Object>> routes) {
+    List<AppProperties.Route> bound = bind(routes);
+    validate(bound);
+    try {
+      return registry.replace(bound).describe();
+    } catch (PatternParseException e) {
+      throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+    }
+  }
+
+  private static List<AppProperties.Route> bind(List<Map<String, Object>> routes) {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    flatten("routes", routes, properties);
+    try {
+      return new Binder(new MapConfigurationPropertySource(properties))
+          .bind("routes", Bindable.listOf(AppProperties.Route.class))
+          .orElseGet(List::of);
+    } catch (BindException e) {
+      String reason = "Invalid " + e.getName() + ": "
+          + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+      throw new InvalidEndpointRequestException(reason, reason);
+    }
+  }
+
+  /**
+   * Flattens the body into property names, such as <code>routes[0].cache-control.max-age</code>.
+   */
+  private static void flatten(String name, @Nullable Object value,
+      Map<String, Object> properties) {
+    if (value instanceof Map<?, ?> map) {
+      map.forEach((key, nested) -> flatten(name + "." + key, nested, properties));
+    } else if (value instanceof List<?> list) {
+      for (int index = 0; index < list.size(); index++) {
+        flatten(name + "[" + index + "]", list.get(index), properties);
+      }
+    } else if (value != null) {
+      properties.put(name, value);
+    }
+  }
+
+  private void validate(List<AppProperties.Route> routes) {
+    List<String> errors = new ArrayList<>();
+    for (int index = 0; index < routes.size(); index++) {
+      AppProperties.Route route = routes.get(index);
+      for (ConstraintViolation<AppProperties.Route> violation : validator.validate(route)) {
+        errors.add("routes[" + index + "]." + violation.getPropertyPath() + " "
+            + violation.getMessage());
+      }
+    }
+    if (!errors.isEmpty()) {
+      String reason = "Invalid routes: " + String.join(", ", errors);
+      throw new InvalidEndpointRequestException(reason, reason);
+    }
+  }
+
+}
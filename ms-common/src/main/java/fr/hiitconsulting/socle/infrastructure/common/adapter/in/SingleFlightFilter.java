@@ -0,0 +1,251 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.SingleFlight;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Shares one execution between identical concurrent GET requests on {@link SingleFlight}
+ * methods.
+ *
+ * <br><br>
+ * The first request executes with a buffered response. Identical requests received meanwhile
+ * wait for it and are sent a copy of its status, headers and body, <code>Set-Cookie</code>
+ * excepted. They execute on their own if it fails or outlasts the wait timeout.
+ * <br><br>
+ * Requests on private resources are only shared between requests of the same principal, so the
+ * filter runs after the Spring Security filter chain, and anonymous requests on private
+ * resources always execute on their own.
+ * <br><br>
+ * Executions in progress are kept in a {@link ConcurrentHashMap}, and requests are only matched
+ * to their handler when the application declares {@link SingleFlight} methods. Methods returning
+ * a {@link FileDownload} are never shared, their body being too large to buffer.
+ */
+@NullMarked
+@RequiredArgsConstructor
+public class SingleFlightFilter extends OncePerRequestFilter implements Ordered {
+
+  /**
+   * After the Spring Security filter chain, so that the principal is known.
+   */
+  public static final int ORDER = IdempotencyFilter.ORDER + 1;
+
+  private static final String KEY_ATTRIBUTE = SingleFlightFilter.class.getName() + ".KEY";
+
+  private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+  private final Duration waitTimeout;
+  private final ConcurrentMap<Key, CompletableFuture<SharedResponse>> inFlight =
+      new ConcurrentHashMap<>();
+  @Nullable
+  private volatile Boolean annotatedHandlers;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !"GET".equals(request.getMethod());
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain)
+      throws ServletException, IOException {
+
+    HttpServletResponse responseToUse = response;
+    Key key;
+
+    if (isAsyncDispatch(request)) {
+      key = (Key) request.getAttribute(KEY_ATTRIBUTE);
+    } else {
+      SingleFlight annotation = findAnnotation(request);
+      key = annotation == null ? null : Key.of(request, annotation);
+
+      if (key != null) {
+        CompletableFuture<SharedResponse> pending = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> running = inFlight.putIfAbsent(key, pending);
+        if (running != null) {
+          SharedResponse shared = await(running);
+          if (shared != null) {
+            CapturedResponses.write(shared.status(), shared.headers(), shared.body(), response);
+            return;
+          }
+          key = null;
+        } else {
+          request.setAttribute(KEY_ATTRIBUTE, key);
+          responseToUse = new ContentCachingResponseWrapper(response);
+        }
+      }
+    }
+
+    if (key == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    try {
+      filterChain.doFilter(request, responseToUse);
+    } catch (IOException | ServletException | RuntimeException e) {
+      CompletableFuture<SharedResponse> pending = inFlight.remove(key);
+      if (pending != null) {
+        pending.completeExceptionally(e);
+      }
+      throw e;
+    }
+
+    if (!isAsyncStarted(request)) {
+      ContentCachingResponseWrapper wrapper = Objects.requireNonNull(
+          WebUtils.getNativeResponse(responseToUse, ContentCachingResponseWrapper.class));
+      CompletableFuture<SharedResponse> pending = inFlight.remove(key);
+      if (pending != null) {
+        pending.complete(new SharedResponse(wrapper.getStatus(),
+            CapturedResponses.headers(wrapper), wrapper.getContentAsByteArray()));
+      }
+      wrapper.copyBodyToResponse();
+    }
+  }
+
+  private @Nullable SharedResponse await(CompletableFuture<SharedResponse> running) {
+    try {
+      return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException | ExecutionException e) {
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+  }
+
+  private @Nullable SingleFlight findAnnotation(HttpServletRequest request) {
+    RequestMappingHandlerMapping mapping = handlerMapping.getIfAvailable();
+    if (mapping == null || !hasAnnotatedHandlers(mapping)) {
+      return null;
+    }
+
+    boolean parsed = ServletRequestPathUtils.hasParsedRequestPath(request);
+    try {
+      if (!parsed) {
+        ServletRequestPathUtils.parseAndCache(request);
+      }
+      HandlerExecutionChain chain = mapping.getHandler(request);
+      return chain != null && chain.getHandler() instanceof HandlerMethod handlerMethod
+          && !FileDownload.class.isAssignableFrom(handlerMethod.getReturnType().getParameterType())
+          ? handlerMethod.getMethodAnnotation(SingleFlight.class)
+          : null;
+    } catch (Exception e) {
+      return null;
+    } finally {
+      if (!parsed) {
+        ServletRequestPathUtils.clearParsedRequestPath(request);
+      }
+    }
+  }
+
+  private boolean hasAnnotatedHandlers(RequestMappingHandlerMapping mapping) {
+    Boolean result = annotatedHandlers;
+    if (result == null) {
+      result = mapping.getHandlerMethods().values().stream()
+          .anyMatch(handlerMethod -> handlerMethod.hasMethodAnnotation(SingleFlight.class));
+      annotatedHandlers = result;
+    }
+    return result;
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+  private record Key(
+      String path,
+      String parameters,
+      @Nullable String accept,
+      @Nullable String acceptLanguage,
+      @Nullable String ifNoneMatch,
+      @Nullable String user
+  ) {
+
+    static @Nullable Key of(HttpServletRequest request, SingleFlight annotation) {
+      String user = null;
+      if (annotation.privateResource()) {
+        Principal principal = request.getUserPrincipal();
+        if (principal == null) {
+          return null;
+        }
+        user = principal.getName();
+      }
+
+      StringBuilder parameters = new StringBuilder();
+      new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+        for (String value : values) {
+          parameters.append(name).append('=').append(value).append('&');
+        }
+      });
+
+      return new Key(request.getRequestURI(), parameters.toString(),
+          request.getHeader(HttpHeaders.ACCEPT), request.getHeader(HttpHeaders.ACCEPT_LANGUAGE),
+          request.getHeader(HttpHeaders.IF_NONE_MATCH), user);
+    }
+
+  }
+
+  private record SharedResponse(int status, Map<String, List<String>> headers, byte[] body) {
+
+  }
+
+}
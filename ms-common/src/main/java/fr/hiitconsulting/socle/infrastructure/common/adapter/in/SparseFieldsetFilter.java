@@ -0,0 +1,237 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.InvalidFieldsetException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import tools.jackson.databind.jsonFormatVisitors.JsonObjectFormatVisitor;
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+/**
+ * Compiled projection of a <code>fields</code> specification.
+ *
+ * <br><br>
+ * The specification is parsed and validated once into a tree of selected properties. At write
+ * time the filter only walks the generator context to find the current node, so unselected
+ * properties are never serialized.
+ */
+@NullMarked
+public final class SparseFieldsetFilter extends SimpleBeanPropertyFilter {
+
+  /**
+   * Filter id assigned to every bean type by the sparse fieldset configuration.
+   */
+  public static final String FILTER_ID = "ms-common-sparse-fieldset";
+
+  private static final int MAX_FIELDS = 64;
+
+  /**
+   * Lets every property through while the serialized properties of a type are listed.
+   */
+  private static final FilterProvider ALL_PROPERTIES = new SimpleFilterProvider()
+      .addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+
+  private final Node root;
+  private final FilterProvider filterProvider;
+
+  private SparseFieldsetFilter(Node root) {
+    this.root = root;
+    this.filterProvider = new SimpleFilterProvider().addFilter(FILTER_ID, this);
+  }
+
+  /**
+   * Parses and validates a specification against the serializers of the given type.
+   *
+   * @param spec   comma separated list of dotted property paths
+   * @param type   type of the response body, containers are unwrapped
+   * @param mapper mapper whose serializers list the properties of each type
+   * @throws InvalidFieldsetException when a path does not match a serialized property
+   */
+  public static SparseFieldsetFilter compile(String spec, JavaType type, ObjectMapper mapper)
+      throws InvalidFieldsetException {
+    ObjectWriter writer = mapper.writer(ALL_PROPERTIES);
+    Node root = new Node();
+    Map<String, String> errors = new LinkedHashMap<>();
+    int count = 0;
+
+    for (String raw : spec.split(",")) {
+      String path = raw.trim();
+      if (path.isEmpty()) {
+        continue;
+      }
+      if (++count > MAX_FIELDS) {
+        errors.put(path, "Too many fields, at most " + MAX_FIELDS + " are allowed");
+        break;
+      }
+
+      Node node = root;
+      JavaType current = type;
+      for (String name : path.split("\\.", -1)) {
+        JavaType propertyType = findPropertyType(current, name, writer);
+        if (propertyType == null) {
+          errors.put(path, "Unknown field");
+          break;
+        }
+        node = node.child(name);
+        current = propertyType;
+      }
+      node.all = true;
+    }
+    if (count == 0) {
+      root.all = true;
+    }
+
+    if (!errors.isEmpty()) {
+      throw new InvalidFieldsetException(errors);
+    }
+    return new SparseFieldsetFilter(root);
+  }
+
+  /**
+   * Provider to hand to the writer, it resolves {@link #FILTER_ID} to this filter.
+   */
+  public FilterProvider filterProvider() {
+    return filterProvider;
+  }
+
+  @Override
+  public void serializeAsProperty(Object pojo, JsonGenerator g, SerializationContext ctxt,
+      PropertyWriter writer) throws Exception {
+    Node node = resolve(g.streamWriteContext());
+    if (node != null && node.includes(writer.getName())) {
+      writer.serializeAsProperty(pojo, g, ctxt);
+    } else if (!g.canOmitProperties()) {
+      writer.serializeAsOmittedProperty(pojo, g, ctxt);
+    }
+  }
+
+  @Override
+  public SparseFieldsetFilter snapshot() {
+    return this;
+  }
+
+  /**
+   * Finds the node of the object currently being written, {@code null} when it is not selected.
+   */
+  private @Nullable Node resolve(TokenStreamContext context) {
+    TokenStreamContext parent = context.getParent();
+    while (parent != null && parent.inArray()) {
+      parent = parent.getParent();
+    }
+    if (parent == null || parent.inRoot()) {
+      return root;
+    }
+
+    Node parentNode = resolve(parent);
+    if (parentNode == null || parentNode.all) {
+      return parentNode;
+    }
+    return parentNode.children.get(parent.currentName());
+  }
+
+  private static @Nullable JavaType findPropertyType(JavaType type, String name,
+      ObjectWriter writer) {
+    PropertyTypeVisitor visitor = new PropertyTypeVisitor(name);
+    writer.acceptJsonFormatVisitor(unwrap(type), visitor);
+    return visitor.propertyType;
+  }
+
+  static JavaType unwrap(JavaType type) {
+    JavaType current = type;
+    while ((current.isContainerType() && !current.isMapLikeType()) || current.isReferenceType()) {
+      JavaType content = current.getContentType();
+      if (content == null) {
+        break;
+      }
+      current = content;
+    }
+    return current;
+  }
+
+  /**
+   * Looks up a property among the ones the bean serializer of a type reports.
+   */
+  private static final class PropertyTypeVisitor extends JsonFormatVisitorWrapper.Base {
+
+    private final String name;
+    private @Nullable JavaType propertyType;
+
+    PropertyTypeVisitor(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public JsonObjectFormatVisitor expectObjectFormat(JavaType type) {
+      return new JsonObjectFormatVisitor.Base() {
+        @Override
+        public void property(BeanProperty property) {
+          visit(property);
+        }
+
+        @Override
+        public void optionalProperty(BeanProperty property) {
+          visit(property);
+        }
+      };
+    }
+
+    private void visit(BeanProperty property) {
+      if (propertyType == null && property.getName().equals(name)) {
+        propertyType = property.getType();
+      }
+    }
+  }
+
+  private static final class Node {
+
+    private final Map<String, Node> children = new HashMap<>();
+    private boolean all;
+
+    Node child(String name) {
+      return children.computeIfAbsent(name, k -> new Node());
+    }
+
+    boolean includes(String name) {
+      return all || children.containsKey(name);
+    }
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.SparseFieldset;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compiles the <code>fields</code> parameter of {@link SparseFieldset} handlers before they run.
+ *
+ * <br><br>
+ * Compiled projections are cached per handler method and specification, so a given projection
+ * is parsed and validated only once. The result is exposed to
+ * {@link SparseFieldsetResponseBodyAdvice} through the {@link #FILTER_ATTRIBUTE} request
+ * attribute.
+ */
+@NullMarked
+@RequiredArgsConstructor
+public class SparseFieldsetInterceptor implements HandlerInterceptor {
+
+  public static final String FILTER_ATTRIBUTE =
+      SparseFieldsetInterceptor.class.getName() + ".FILTER";
+
+  private static final int MAX_CACHED_PROJECTIONS = 1024;
+
+  private final JsonMapper jsonMapper;
+
+  private final Cache<ProjectionKey, SparseFieldsetFilter> projections = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED_PROJECTIONS)
+      .build();
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+      Object handler) throws Exception {
+
+    if (handler instanceof HandlerMethod hm) {
+      SparseFieldset annotation = hm.getMethodAnnotation(SparseFieldset.class);
+      String spec = annotation == null ? null : request.getParameter(annotation.param());
+
+      if (spec != null && !spec.isBlank()) {
+        request.setAttribute(FILTER_ATTRIBUTE, getProjection(hm, spec));
+      }
+    }
+
+    return true;
+  }
+
+  private SparseFieldsetFilter getProjection(HandlerMethod handlerMethod, String spec)
+      throws Exception {
+    ProjectionKey key = new ProjectionKey(handlerMethod.getMethod(), spec);
+    SparseFieldsetFilter projection = projections.getIfPresent(key);
+
+    if (projection == null) {
+      projection = SparseFieldsetFilter.compile(spec, getBodyType(handlerMethod), jsonMapper);
+      projections.put(key, projection);
+    }
+    return projection;
+  }
+
+  private JavaType getBodyType(HandlerMethod handlerMethod) {
+    ResolvableType type = ResolvableType.forMethodParameter(handlerMethod.getReturnType());
+    if (HttpEntity.class.isAssignableFrom(type.toClass())) {
+      type = type.as(HttpEntity.class).getGeneric(0);
+    }
+    return jsonMapper.constructType(type.getType());
+  }
+
+  private record ProjectionKey(Method method, String spec) {
+
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.databind.cfg.MapperConfig;
+import tools.jackson.databind.introspect.Annotated;
+import tools.jackson.databind.introspect.AnnotatedClass;
+import tools.jackson.databind.introspect.NopAnnotationIntrospector;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Jackson module assigning {@link SparseFieldsetFilter#FILTER_ID} to bean types without an
+ * explicit <code>@JsonFilter</code>.
+ *
+ * <br><br>
+ * The introspector is appended, so filters declared by the application keep precedence. Maps
+ * are left untouched as their keys are data, not properties.
+ */
+@NullMarked
+public class SparseFieldsetModule extends SimpleModule {
+
+  public SparseFieldsetModule() {
+    super(SparseFieldsetModule.class.getSimpleName());
+  }
+
+  @Override
+  public void setupModule(SetupContext context) {
+    super.setupModule(context);
+    context.appendAnnotationIntrospector(new FilterIdIntrospector());
+  }
+
+  private static final class FilterIdIntrospector extends NopAnnotationIntrospector {
+
+    @Override
+    public @Nullable Object findFilterId(MapperConfig<?> config, Annotated annotated) {
+      if (annotated instanceof AnnotatedClass ac && !Map.class.isAssignableFrom(ac.getRawType())) {
+        return SparseFieldsetFilter.FILTER_ID;
+      }
+      return null;
+    }
+  }
+
+}
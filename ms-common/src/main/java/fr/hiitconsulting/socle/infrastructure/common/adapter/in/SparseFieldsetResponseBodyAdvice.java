@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.SparseFieldset;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import tools.jackson.databind.ser.FilterProvider;
+
+/**
+ * Hands the projection compiled by {@link SparseFieldsetInterceptor} to the Jackson converters
+ * as a write hint.
+ */
+@NullMarked
+@ControllerAdvice
+public class SparseFieldsetResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+  @Override
+  public boolean supports(MethodParameter returnType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    return returnType.hasMethodAnnotation(SparseFieldset.class)
+        && AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+  }
+
+  @Override
+  public @Nullable Object beforeBodyWrite(@Nullable Object body, MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+      ServerHttpResponse response) {
+    return body;
+  }
+
+  @Override
+  public @Nullable Map<String, Object> determineWriteHints(@Nullable Object body,
+      MethodParameter returnType, MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    Object filter = attributes == null ? null
+        : attributes.getAttribute(SparseFieldsetInterceptor.FILTER_ATTRIBUTE, SCOPE_REQUEST);
+
+    if (filter instanceof SparseFieldsetFilter sparseFieldsetFilter) {
+      return Map.of(FilterProvider.class.getName(), sparseFieldsetFilter.filterProvider());
+    }
+    return null;
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.infrastructure.common.statistics.HotPathStatistics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the latency, status and resolved exception of each request in the
+ * {@link HotPathStatistics}, by route.
+ *
+ * <br><br>
+ * A request that fails with an unhandled exception is recorded as a server error.
+ */
+@NullMarked
+@RequiredArgsConstructor
+public class StatisticsFilter extends OncePerRequestFilter implements Ordered {
+
+  /**
+   * Right after the correlation id filter, so that the measure covers the whole chain.
+   */
+  public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 3;
+
+  private static final String START_ATTRIBUTE = StatisticsFilter.class.getName() + ".START";
+
+  private final HotPathStatistics statistics;
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain)
+      throws ServletException, IOException {
+
+    Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+    if (start == null) {
+      start = System.nanoTime();
+      request.setAttribute(START_ATTRIBUTE, start);
+    }
+
+    Throwable failure = null;
+    try {
+      filterChain.doFilter(request, response);
+    } catch (IOException | ServletException | RuntimeException | Error e) {
+      failure = e;
+      statistics.recordException(e);
+      throw e;
+    } finally {
+      if (failure != null || !isAsyncStarted(request)) {
+        record(request, response, start, failure);
+      }
+    }
+  }
+
+  private void record(HttpServletRequest request, HttpServletResponse response, long start,
+      @Nullable Throwable failure) {
+    if (failure == null
+        && request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE) instanceof Throwable e) {
+      statistics.recordException(e);
+    }
+    // the container answers an unhandled exception with a 500 once the filter chain returns
+    int status = failure != null && !response.isCommitted()
+        ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+    Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    statistics.recordRequest(route != null ? route.toString() : null, status,
+        System.nanoTime() - start);
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.StreamingBody;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.StreamReadConstraints;
+import tools.jackson.core.TokenStreamFactory;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Binds {@link StreamingBody} parameters, parsing the request body incrementally instead of
+ * deserializing it at once, so that the memory used does not grow with its size.
+ *
+ * <br><br>
+ * Elements are read with the application mapper, through a parser limiting their nesting depth
+ * and string lengths. Bodies exceeding a limit are rejected as soon as it is reached, with a
+ * 400 response.
+ */
+@NullMarked
+public class StreamingBodyArgumentResolver implements HandlerMethodArgumentResolver {
+
+  private final ObjectMapper objectMapper;
+  private final TokenStreamFactory streamFactory;
+  private final long maxElements;
+
+  public StreamingBodyArgumentResolver(ObjectMapper objectMapper,
+      AppProperties.StreamingBody properties) {
+    this.objectMapper = objectMapper;
+    this.maxElements = properties.getMaxElements();
+    // one more level for the array holding the elements
+    this.streamFactory = objectMapper.tokenStreamFactory().rebuild()
+        .streamReadConstraints(StreamReadConstraints.builder()
+            .maxNestingDepth(properties.getMaxDepth() + 1)
+            .maxStringLength(Math.toIntExact(properties.getMaxStringLength().toBytes()))
+            .build())
+        .build();
+  }
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    Class<?> type = parameter.getParameterType();
+    return parameter.hasParameterAnnotation(StreamingBody.class)
+        && (Stream.class.equals(type) || Iterator.class.equals(type));
+  }
+
+  @Override
+  public Object resolveArgument(MethodParameter parameter,
+      @Nullable ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
+      @Nullable WebDataBinderFactory binderFactory) throws IOException {
+    StreamingBody annotation = Objects.requireNonNull(
+        parameter.getParameterAnnotation(StreamingBody.class));
+    HttpServletRequest request = Objects.requireNonNull(
+        webRequest.getNativeRequest(HttpServletRequest.class));
+
+    ResolvableType elementType = ResolvableType.forMethodParameter(parameter).getGeneric(0);
+    // the next elements follow each one
+    ObjectReader reader = objectMapper.readerFor(objectMapper.constructType(elementType.getType()))
+        .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+    JsonParser parser = streamFactory.createParser(ObjectReadContext.empty(),
+        request.getInputStream());
+    StreamingBodyIterator<Object> iterator = new StreamingBodyIterator<>(parser, reader,
+        annotation.maxElements() > 0 ? annotation.maxElements() : maxElements);
+
+    if (Iterator.class.equals(parameter.getParameterType())) {
+      return iterator;
+    }
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+            Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(iterator::close);
+  }
+
+}
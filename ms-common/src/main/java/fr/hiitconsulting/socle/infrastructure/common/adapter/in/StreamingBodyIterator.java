@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.InvalidElementsException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Reads the elements of a JSON array, or of a sequence of JSON values, one at a time.
+ *
+ * <br><br>
+ * An element whose creation fails with an {@link IllegalArgumentException}, as thrown by
+ * <code>DomainValidation</code>, is skipped and its error kept under its index, which is also
+ * its line index in NDJSON. They are all thrown in an {@link InvalidElementsException} once the
+ * body is exhausted, or once {@value #MAX_ERRORS} are found. Malformed JSON and exceeded limits
+ * are thrown at once, as {@link IllegalArgumentException}s.
+ */
+@NullMarked
+final class StreamingBodyIterator<T> implements Iterator<T>, AutoCloseable {
+
+  private static final int MAX_ERRORS = 100;
+
+  private final JsonParser parser;
+  private final ObjectReader reader;
+  private final long maxElements;
+  private final Map<String, String> errors = new LinkedHashMap<>();
+
+  private long index = -1;
+  private boolean array;
+  private boolean started;
+  private boolean finished;
+  private @Nullable T next;
+
+  StreamingBodyIterator(JsonParser parser, ObjectReader reader, long maxElements) {
+    this.parser = parser;
+    this.reader = reader;
+    this.maxElements = maxElements;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (next == null && !finished) {
+      try {
+        advance();
+      } catch (JacksonException e) {
+        close();
+        throw new IllegalArgumentException(
+            "Invalid element [" + index + "]: " + e.getOriginalMessage(), e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    T element = next;
+    next = null;
+    return element;
+  }
+
+  private void advance() {
+    JsonToken token = parser.nextToken();
+    if (!started) {
+      started = true;
+      array = token == JsonToken.START_ARRAY;
+      if (array) {
+        token = parser.nextToken();
+      }
+    }
+    if (token == null || (array && token == JsonToken.END_ARRAY)) {
+      finish();
+      return;
+    }
+    if (++index >= maxElements) {
+      close();
+      throw new IllegalArgumentException(
+          "The body cannot hold more than " + maxElements + " elements");
+    }
+
+    TokenStreamContext parent = token.isStructStart()
+        ? parser.streamReadContext().getParent() : parser.streamReadContext();
+    try {
+      next = reader.readValue(parser);
+    } catch (JacksonException e) {
+      IllegalArgumentException invalid = validationFailure(e);
+      if (invalid == null) {
+        throw e;
+      }
+      errors.put("[" + index + "]", invalid.getMessage());
+      if (errors.size() >= MAX_ERRORS) {
+        finish();
+        return;
+      }
+      // the failure may come from a nested object, skip the rest of the element
+      while (parser.streamReadContext() != parent && parser.nextToken() != null) {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private void finish() {
+    finished = true;
+    close();
+    if (!errors.isEmpty()) {
+      throw new InvalidElementsException(errors);
+    }
+  }
+
+  private static @Nullable IllegalArgumentException validationFailure(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof IllegalArgumentException invalid) {
+        return invalid;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void close() {
+    parser.close();
+  }
+
+}
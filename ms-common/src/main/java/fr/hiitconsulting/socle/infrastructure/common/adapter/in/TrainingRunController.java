@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.domain.shared.exception.AbstractNotFoundException;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.CacheControl;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.SparseFieldset;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.TrainingResourceQuery;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Synthetic endpoints going through the ms-common hot paths, only exposed during a training run.
+ */
+@NullMarked
+@RestController
+@RequestMapping(TrainingRunController.PATH)
+public class TrainingRunController {
+
+  public static final String PATH = "/ms-common/training/resources";
+
+  public static final String UNKNOWN_ID = "unknown";
+
+  @SparseFieldset
+  @CacheControl(maxAge = 60)
+  @GetMapping("/{id}")
+  public TrainingResourceQuery get(@PathVariable String id) throws AbstractNotFoundException {
+    if (UNKNOWN_ID.equals(id)) {
+      throw new TrainingResourceNotFoundException(id);
+    }
+    return new TrainingResourceQuery(id, "Resource " + id, 42, List.of("training", "ms-common"));
+  }
+
+  @PostMapping
+  public TrainingResourceQuery create(@Valid @RequestBody TrainingResourceQuery resource) {
+    return resource;
+  }
+
+  private static class TrainingResourceNotFoundException extends AbstractNotFoundException {
+
+    TrainingResourceNotFoundException(String id) {
+      super("Training resource", id);
+    }
+  }
+
+}
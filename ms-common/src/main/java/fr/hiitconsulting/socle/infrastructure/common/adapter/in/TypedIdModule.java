@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.in;
+
+import fr.hiitconsulting.socle.domain.shared.id.LongId;
+import fr.hiitconsulting.socle.domain.shared.id.UuidId;
+import java.nio.CharBuffer;
+import org.jspecify.annotations.NullMarked;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamWriteCapability;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.KeyDeserializer;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.deser.std.StdScalarDeserializer;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdScalarSerializer;
+
+/**
+ * Jackson module reading and writing typed identifiers as scalars, also as map keys.
+ *
+ * <br><br>
+ * <code>UuidId</code> values are written in their canonical string form, or as 16 bytes by the
+ * formats supporting binary values such as CBOR and Smile. <code>LongId</code> values are
+ * written as numbers, and also read from strings.
+ */
+@NullMarked
+@SuppressWarnings("rawtypes")
+public class TypedIdModule extends SimpleModule {
+
+  public TypedIdModule() {
+    super(TypedIdModule.class.getSimpleName());
+    addSerializer(UuidId.class, new UuidIdSerializer());
+    addDeserializer(UuidId.class, new UuidIdDeserializer());
+    addKeyDeserializer(UuidId.class, new UuidIdKeyDeserializer());
+    addSerializer(LongId.class, new LongIdSerializer());
+    addDeserializer(LongId.class, new LongIdDeserializer());
+    addKeyDeserializer(LongId.class, new LongIdKeyDeserializer());
+  }
+
+  private static final class UuidIdSerializer extends StdScalarSerializer<UuidId> {
+
+    UuidIdSerializer() {
+      super(UuidId.class);
+    }
+
+    @Override
+    public void serialize(UuidId value, JsonGenerator gen, SerializationContext context) {
+      if (gen.has(StreamWriteCapability.CAN_WRITE_BINARY_NATIVELY)) {
+        byte[] bytes = new byte[16];
+        write(value.mostSignificantBits(), bytes, 0);
+        write(value.leastSignificantBits(), bytes, 8);
+        gen.writeBinary(bytes);
+      } else {
+        gen.writeString(value.toString());
+      }
+    }
+
+    private static void write(long bits, byte[] bytes, int offset) {
+      for (int i = 7; i >= 0; i--) {
+        bytes[offset + i] = (byte) bits;
+        bits >>>= 8;
+      }
+    }
+  }
+
+  private static final class UuidIdDeserializer extends StdScalarDeserializer<UuidId<?>> {
+
+    UuidIdDeserializer() {
+      super(UuidId.class);
+    }
+
+    @Override
+    public UuidId<?> deserialize(JsonParser parser, DeserializationContext context) {
+      if (parser.hasToken(JsonToken.VALUE_STRING)) {
+        CharSequence text = CharBuffer.wrap(parser.getStringCharacters(),
+            parser.getStringOffset(), parser.getStringLength());
+        try {
+          return UuidId.parse(text);
+        } catch (IllegalArgumentException e) {
+          throw context.weirdStringException(text.toString(), UuidId.class, e.getMessage());
+        }
+      }
+      if (parser.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
+        byte[] bytes = parser.getBinaryValue();
+        if (bytes.length == 16) {
+          return new UuidId<>(read(bytes, 0), read(bytes, 8));
+        }
+      }
+      return (UuidId<?>) context.handleUnexpectedToken(UuidId.class, parser);
+    }
+
+    private static long read(byte[] bytes, int offset) {
+      long bits = 0;
+      for (int i = offset; i < offset + 8; i++) {
+        bits = bits << 8 | (bytes[i] & 0xFF);
+      }
+      return bits;
+    }
+  }
+
+  private static final class UuidIdKeyDeserializer extends KeyDeserializer {
+
+    @Override
+    public Object deserializeKey(String key, DeserializationContext context) {
+      try {
+        return UuidId.parse(key);
+      } catch (IllegalArgumentException e) {
+        return context.handleWeirdKey(UuidId.class, key, e.getMessage());
+      }
+    }
+  }
+
+  private static final class LongIdSerializer extends StdScalarSerializer<LongId> {
+
+    LongIdSerializer() {
+      super(LongId.class);
+    }
+
+    @Override
+    public void serialize(LongId value, JsonGenerator gen, SerializationContext context) {
+      gen.writeNumber(value.value());
+    }
+  }
+
+  private static final class LongIdDeserializer extends StdScalarDeserializer<LongId<?>> {
+
+    LongIdDeserializer() {
+      super(LongId.class);
+    }
+
+    @Override
+    public LongId<?> deserialize(JsonParser parser, DeserializationContext context) {
+      if (parser.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+        return new LongId<>(parser.getLongValue());
+      }
+      if (parser.hasToken(JsonToken.VALUE_STRING)) {
+        CharSequence text = CharBuffer.wrap(parser.getStringCharacters(),
+            parser.getStringOffset(), parser.getStringLength());
+        try {
+          return LongId.parse(text);
+        } catch (IllegalArgumentException e) {
+          throw context.weirdStringException(text.toString(), LongId.class, e.getMessage());
+        }
+      }
+      return (LongId<?>) context.handleUnexpectedToken(LongId.class, parser);
+    }
+  }
+
+  private static final class LongIdKeyDeserializer extends KeyDeserializer {
+
+    @Override
+    public Object deserializeKey(String key, DeserializationContext context) {
+      try {
+        return LongId.parse(key);
+      } catch (IllegalArgumentException e) {
+        return context.handleWeirdKey(LongId.class, key, e.getMessage());
+      }
+    }
+  }
+
+}
@@ -39,7 +39,13 @@ import org.jspecify.annotations.Nullable;
 public record ErrorMessageQuery(
     @Schema(requiredMode = REQUIRED)
     String message,
-    @Nullable List<FieldErrorQuery> fieldErrors
+    @Nullable List<FieldErrorQuery> fieldErrors,
+    @Schema(description = "Trace identifier of the request, as found in the logs")
+    @Nullable String correlationId
 ) {
 
+  public ErrorMessageQuery(String message, @Nullable List<FieldErrorQuery> fieldErrors) {
+    this(message, fieldErrors, null);
+  }
+
 }
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.out;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Bounds the concurrent requests, hence the open connections, to each host.
+ *
+ * <br><br>
+ * A request waiting longer than the acquire timeout for a free connection fails with an
+ * <code>IOException</code> instead of piling up behind a slow downstream. The connection is
+ * given back when the response is closed, which <code>RestClient</code> always does.
+ */
+@NullMarked
+@RequiredArgsConstructor
+public class ConnectionLimitInterceptor implements ClientHttpRequestInterceptor, MeterBinder {
+
+  private final int maxConnectionsPerHost;
+
+  private final Duration acquireTimeout;
+
+  private final Map<String, Semaphore> hosts = new ConcurrentHashMap<>();
+
+  @Nullable
+  private volatile MeterRegistry registry;
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    String host = host(request.getURI());
+    Semaphore connections = hosts.computeIfAbsent(host, this::newConnections);
+    acquire(host, connections);
+    try {
+      return new ReleasingResponse(execution.execute(request, body), connections);
+    } catch (IOException | RuntimeException e) {
+      connections.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+    hosts.forEach((host, connections) -> bindTo(registry, host, connections));
+  }
+
+  static String host(URI uri) {
+    return String.valueOf(uri.getRawAuthority());
+  }
+
+  private void acquire(String host, Semaphore connections) throws IOException {
+    try {
+      if (!connections.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+        throw new IOException(
+            "No connection to " + host + " available within " + acquireTimeout.toMillis() + "ms");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a connection to " + host);
+    }
+  }
+
+  private Semaphore newConnections(String host) {
+    Semaphore connections = new Semaphore(maxConnectionsPerHost, true);
+    MeterRegistry meterRegistry = registry;
+    if (meterRegistry != null) {
+      bindTo(meterRegistry, host, connections);
+    }
+    return connections;
+  }
+
+  private void bindTo(MeterRegistry registry, String host, Semaphore connections) {
+    Gauge.builder("http.client.connections.active", connections,
+            c -> maxConnectionsPerHost - c.availablePermits())
+        .description("Requests holding a connection to the host")
+        .tag("host", host)
+        .register(registry);
+    Gauge.builder("http.client.connections.pending", connections, Semaphore::getQueueLength)
+        .description("Requests waiting for a connection to the host")
+        .tag("host", host)
+        .register(registry);
+    Gauge.builder("http.client.connections.max", () -> maxConnectionsPerHost)
+        .tag("host", host)
+        .register(registry);
+  }
+
+  @RequiredArgsConstructor
+  private static class ReleasingResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+
+    private final Semaphore connections;
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      return delegate.getBody();
+    }
+
+    @Override
+    public void close() {
+      try {
+        delegate.close();
+      } finally {
+        if (released.compareAndSet(false, true)) {
+          connections.release();
+        }
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.adapter.out;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Sends a second, hedged, <code>GET</code> or <code>HEAD</code> request when the first one takes
+ * longer than the 95th percentile of the recent latencies of its host, and keeps the first
+ * response received.
+ *
+ * <br><br>
+ * Nothing is hedged until enough latencies are known for the host. The response of the slower
+ * request is closed as soon as it arrives.
+ * <br><br>
+ * The rest of the interceptor chain is only executed once, by the first request. The hedged
+ * copy is created from its own request factory, which applies its own interceptors.
+ */
+@NullMarked
+@RequiredArgsConstructor
+public class HedgingInterceptor implements ClientHttpRequestInterceptor, MeterBinder,
+    AutoCloseable {
+
+  private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private static final int MINIMUM_SAMPLES = 20;
+
+  private final Duration minimumDelay;
+
+  private final ClientHttpRequestFactory requestFactory;
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final Map<String, Latencies> hosts = new ConcurrentHashMap<>();
+
+  @Nullable
+  private volatile MeterRegistry registry;
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    if (!HttpMethod.GET.equals(request.getMethod())
+        && !HttpMethod.HEAD.equals(request.getMethod())) {
+      return execution.execute(request, body);
+    }
+
+    String host = ConnectionLimitInterceptor.host(request.getURI());
+    Latencies latencies = hosts.computeIfAbsent(host, h -> new Latencies());
+    long percentile = latencies.percentile95();
+    if (percentile < 0) {
+      long start = System.nanoTime();
+      ClientHttpResponse response = execution.execute(request, body);
+      latencies.record(System.nanoTime() - start);
+      return response;
+    }
+
+    CompletableFuture<ClientHttpResponse> primary = send(request, body, execution, latencies);
+    try {
+      return primary.get(Math.max(percentile, minimumDelay.toNanos()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      CompletableFuture<ClientHttpResponse> hedge = send(request, body, this::executeCopy,
+          latencies);
+      ClientHttpResponse response = await(firstOf(primary, hedge));
+      count(host, hedge.isDone() && !hedge.isCompletedExceptionally()
+          && hedge.join() == response);
+      return response;
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for " + request.getURI());
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public void close() {
+    // pending requests fail at once instead of delaying the shutdown
+    executor.shutdownNow();
+  }
+
+  private CompletableFuture<ClientHttpResponse> send(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution, Latencies latencies) {
+    CompletableFuture<ClientHttpResponse> future = new CompletableFuture<>();
+    executor.execute(() -> {
+      long start = System.nanoTime();
+      try {
+        ClientHttpResponse response = execution.execute(request, body);
+        latencies.record(System.nanoTime() - start);
+        future.complete(response);
+      } catch (Throwable e) {
+        future.completeExceptionally(e);
+      }
+    });
+    return future;
+  }
+
+  private ClientHttpResponse executeCopy(HttpRequest request, byte[] body) throws IOException {
+    ClientHttpRequest copy = requestFactory.createRequest(request.getURI(), request.getMethod());
+    copy.getHeaders().addAll(request.getHeaders());
+    if (body.length > 0) {
+      StreamUtils.copy(body, copy.getBody());
+    }
+    return copy.execute();
+  }
+
+  private static CompletableFuture<ClientHttpResponse> firstOf(
+      CompletableFuture<ClientHttpResponse> primary, CompletableFuture<ClientHttpResponse> hedge) {
+    CompletableFuture<ClientHttpResponse> first = new CompletableFuture<>();
+    AtomicInteger failures = new AtomicInteger();
+    primary.whenComplete((response, failure) -> complete(first, response, failure, failures));
+    hedge.whenComplete((response, failure) -> complete(first, response, failure, failures));
+    return first;
+  }
+
+  private static void complete(CompletableFuture<ClientHttpResponse> first,
+      @Nullable ClientHttpResponse response, @Nullable Throwable failure,
+      AtomicInteger failures) {
+    if (response != null) {
+      if (!first.complete(response)) {
+        response.close();
+      }
+    } else if (failures.incrementAndGet() == 2 && failure != null) {
+      first.completeExceptionally(failure);
+    }
+  }
+
+  private static ClientHttpResponse await(CompletableFuture<ClientHttpResponse> response)
+      throws IOException {
+    try {
+      return response.get();
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a hedged request");
+    }
+  }
+
+  private static IOException unwrap(ExecutionException e) {
+    return switch (e.getCause()) {
+      case IOException io -> io;
+      case RuntimeException runtime -> throw runtime;
+      case Error error -> throw error;
+      case null, default -> new IOException(e.getCause());
+    };
+  }
+
+  private void count(String host, boolean hedgeWon) {
+    MeterRegistry meterRegistry = registry;
+    if (meterRegistry != null) {
+      Counter.builder("http.client.hedged.requests")
+          .description("Requests sent twice because the first one was slow")
+          .tag("host", host)
+          .tag("winner", hedgeWon ? "hedge" : "primary")
+          .register(meterRegistry)
+          .increment();
+    }
+  }
+
+  private static class Latencies {
+
+    private final Recorder recorder = new Recorder(2);
+
+    @Nullable
+    private Histogram window;
+
+    private volatile long rotatedAt = System.nanoTime();
+
+    private volatile long percentile95 = -1;
+
+    void record(long nanos) {
+      recorder.recordValue(nanos);
+    }
+
+    /**
+     * @return the 95th percentile of the last window in nanoseconds, or -1 while unknown
+     */
+    long percentile95() {
+      long percentile = percentile95;
+      if (percentile < 0 || System.nanoTime() - rotatedAt >= WINDOW_NANOS) {
+        rotate();
+      }
+      return percentile95;
+    }
+
+    private synchronized void rotate() {
+      long now = System.nanoTime();
+      if (percentile95 >= 0 && now - rotatedAt < WINDOW_NANOS) {
+        return;
+      }
+      Histogram interval = recorder.getIntervalHistogram();
+      // sparse windows are merged until enough latencies are known
+      if (window == null) {
+        window = interval;
+      } else {
+        window.add(interval);
+      }
+      if (window.getTotalCount() >= MINIMUM_SAMPLES) {
+        percentile95 = window.getValueAtPercentile(95);
+        window = null;
+        rotatedAt = now;
+      }
+    }
+
+  }
+
+}
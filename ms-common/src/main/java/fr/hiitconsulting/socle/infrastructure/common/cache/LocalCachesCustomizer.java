@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.cache.autoconfigure.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Registers the caches declared in configuration on the Caffeine cache manager.
+ *
+ * <br><br>
+ * Their statistics are recorded, so that Spring Boot exports their hit, miss, eviction and load
+ * metrics. Refreshes run on virtual threads, as loaders usually block on a database or a remote
+ * service, and are interrupted when the application stops.
+ *
+ * <br><br>
+ * Spring Boot only creates the cache manager once <code>@EnableCaching</code> is set: a warning
+ * is logged when caches are declared but no Caffeine cache manager was customized.
+ */
+@Slf4j
+@NullMarked
+@RequiredArgsConstructor
+public class LocalCachesCustomizer implements CacheManagerCustomizer<CaffeineCacheManager>,
+    SmartInitializingSingleton, AutoCloseable {
+
+  private final AppProperties appProperties;
+  private final List<NamedCacheLoader> loaders;
+
+  private volatile boolean customized;
+  private volatile @Nullable ExecutorService refreshExecutor;
+
+  @Override
+  public void customize(CaffeineCacheManager cacheManager) {
+    customized = true;
+
+    Map<String, AppProperties.LocalCache> caches = appProperties.getCaches().getSpecs();
+    for (Map.Entry<String, AppProperties.LocalCache> entry : caches.entrySet()) {
+      String name = entry.getKey();
+      AppProperties.LocalCache spec = entry.getValue();
+      Caffeine<Object, Object> builder = Caffeine.newBuilder()
+          .maximumWeight(spec.getMaximumWeight())
+          .weigher((Object key, Object value) -> value instanceof Weighted weighted
+              ? weighted.weight() : 1)
+          .recordStats();
+      if (spec.getTimeToLive() != null) {
+        builder.expireAfterWrite(spec.getTimeToLive());
+      }
+
+      if (spec.getRefreshAfterWrite() == null) {
+        cacheManager.registerCustomCache(name, builder.build());
+        continue;
+      }
+
+      NamedCacheLoader loader = loaders.stream()
+          .filter(candidate -> candidate.cacheName().equals(name))
+          .findFirst()
+          .orElseThrow(() -> new IllegalStateException(
+              "Cache '" + name + "' is refreshed after write but has no NamedCacheLoader bean"));
+      cacheManager.registerCustomCache(name, builder
+          .refreshAfterWrite(spec.getRefreshAfterWrite())
+          .executor(refreshExecutor())
+          .build(loader));
+    }
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (!customized && !appProperties.getCaches().getSpecs().isEmpty()) {
+      log.warn("Caches {} are declared under app.caches but no Caffeine cache manager was "
+          + "created, is @EnableCaching missing?", appProperties.getCaches().getSpecs().keySet());
+    }
+  }
+
+  @Override
+  public void close() {
+    ExecutorService executor = refreshExecutor;
+    if (executor != null) {
+      // pending refreshes are abandoned, the cached values stay as they were
+      executor.shutdownNow();
+    }
+  }
+
+  private synchronized ExecutorService refreshExecutor() {
+    ExecutorService executor = refreshExecutor;
+    if (executor == null) {
+      executor = Executors.newVirtualThreadPerTaskExecutor();
+      refreshExecutor = executor;
+    }
+    return executor;
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.deadline;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.DeadlineExceededException;
+import java.time.Duration;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Instant after which the response of a request is no longer awaited.
+ *
+ * <br><br>
+ * Long-running work should call {@link #check()} between its steps, and size the timeouts of
+ * its queries on {@link #remaining()}, so that it stops once nobody reads its result.
+ */
+@NullMarked
+public final class Deadline {
+
+  /**
+   * Request attribute holding the deadline of the request.
+   */
+  public static final String ATTRIBUTE = Deadline.class.getName();
+
+  private final long expiresAtNanos;
+  private volatile boolean exceeded;
+
+  private Deadline(long expiresAtNanos) {
+    this.expiresAtNanos = expiresAtNanos;
+  }
+
+  public static Deadline after(Duration timeout) {
+    return new Deadline(System.nanoTime() + timeout.toNanos());
+  }
+
+  /**
+   * Remaining budget, zero once expired.
+   */
+  public Duration remaining() {
+    return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+  }
+
+  public boolean isExpired() {
+    return expiresAtNanos - System.nanoTime() <= 0;
+  }
+
+  /**
+   * Aborts the current work once the deadline has passed.
+   *
+   * @throws DeadlineExceededException answered with a <code>504 Gateway Timeout</code>
+   */
+  public void check() {
+    if (isExpired()) {
+      exceeded = true;
+      throw new DeadlineExceededException();
+    }
+  }
+
+  /**
+   * Whether work was aborted by {@link #check()}.
+   */
+  public boolean isExceeded() {
+    return exceeded;
+  }
+
+}
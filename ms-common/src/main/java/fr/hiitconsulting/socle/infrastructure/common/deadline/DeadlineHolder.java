@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.deadline;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.DeadlineExceededException;
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Deadline of the request handled by the current thread.
+ *
+ * <br><br>
+ * The deadline is bound in a <code>ScopedValue</code> by the deadline filter for the duration
+ * of a request, so that it cannot outlive the request on a pooled thread. It is also available
+ * as the {@value Deadline#ATTRIBUTE} request attribute for work handed to other threads.
+ */
+@NullMarked
+@UtilityClass
+public class DeadlineHolder {
+
+  private static final ScopedValue<Deadline> CURRENT = ScopedValue.newInstance();
+
+  public static @Nullable Deadline current() {
+    return CURRENT.orElse(null);
+  }
+
+  /**
+   * Aborts the current work once the deadline of the request has passed, if any.
+   *
+   * @throws DeadlineExceededException answered with a <code>504 Gateway Timeout</code>
+   */
+  public static void check() {
+    Deadline deadline = current();
+    if (deadline != null) {
+      deadline.check();
+    }
+  }
+
+  /**
+   * Runs the operation with the deadline bound, replacing the current one if any.
+   */
+  public static <R, X extends Throwable> R call(Deadline deadline,
+      ScopedValue.CallableOp<? extends R, X> operation) throws X {
+    return ScopedValue.where(CURRENT, deadline).call(operation);
+  }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.event;
+
+import fr.hiitconsulting.socle.domain.shared.event.DomainEvent;
+import fr.hiitconsulting.socle.domain.shared.event.DomainEventConsumer;
+import fr.hiitconsulting.socle.domain.shared.event.DomainEventPublisher;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * In-process {@link DomainEventPublisher}, dispatching events to the
+ * {@link DomainEventConsumer} beans.
+ *
+ * <br><br>
+ * Each consumer has its own bounded queue, filled by the publishing threads and drained in
+ * batches by a single thread. Its capacity, batch size, thread kind and back pressure policy
+ * are configured under <code>app.events.consumers.&lt;name&gt;</code>.
+ *
+ * <br><br>
+ * The consumers start before the web server and stop after it, draining their queues within
+ * <code>app.events.shutdown-timeout</code>. Events are not persisted: the ones still queued
+ * past that delay, or when the JVM crashes, are lost. Events published once stopped are rejected
+ * with a {@link java.util.concurrent.RejectedExecutionException}, whatever the back pressure
+ * policy.
+ */
+@Slf4j
+@NullMarked
+public class DomainEventBus implements DomainEventPublisher, SmartLifecycle, MeterBinder {
+
+  private final List<EventConsumerWorker<?>> workers;
+  private final Duration shutdownTimeout;
+
+  private final ClassValue<EventConsumerWorker<?>[]> routes = new ClassValue<>() {
+    @Override
+    protected EventConsumerWorker<?>[] computeValue(Class<?> eventType) {
+      return workers.stream()
+          .filter(worker -> worker.accepts(eventType))
+          .toArray(EventConsumerWorker<?>[]::new);
+    }
+  };
+
+  private volatile boolean running;
+
+  public DomainEventBus(List<? extends DomainEventConsumer<?>> consumers,
+      AppProperties.Events properties) {
+    this.workers = consumers.stream()
+        .<EventConsumerWorker<?>>map(consumer -> new EventConsumerWorker<>(consumer,
+            properties.getConsumers().getOrDefault(consumer.name(),
+                new AppProperties.EventConsumer())))
+        .toList();
+    this.shutdownTimeout = properties.getShutdownTimeout();
+  }
+
+  @Override
+  public void publish(DomainEvent event) {
+    for (EventConsumerWorker<?> worker : routes.get(event.getClass())) {
+      worker.enqueue(event);
+    }
+  }
+
+  @Override
+  public void start() {
+    workers.forEach(EventConsumerWorker::start);
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    workers.forEach(EventConsumerWorker::stop);
+    long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+    try {
+      for (EventConsumerWorker<?> worker : workers) {
+        if (!worker.join(deadline)) {
+          log.warn("Consumer {} stopped with {} events left", worker.name(), worker.depth());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Below the web server phases, so that requests still publishing are completed first.
+   */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (EventConsumerWorker<?> worker : workers) {
+      Gauge.builder("domain.events.queue.depth", worker, EventConsumerWorker::depth)
+          .description("Events waiting to be consumed")
+          .tag("consumer", worker.name())
+          .register(registry);
+      Gauge.builder("domain.events.queue.capacity", worker, EventConsumerWorker::capacity)
+          .tag("consumer", worker.name())
+          .register(registry);
+      counter(registry, "domain.events.consumed", worker, w -> w.consumed);
+      counter(registry, "domain.events.dropped", worker, w -> w.dropped);
+      counter(registry, "domain.events.failed", worker, w -> w.failed);
+    }
+  }
+
+  private static void counter(MeterRegistry registry, String name, EventConsumerWorker<?> worker,
+      Function<EventConsumerWorker<?>, LongAdder> count) {
+    FunctionCounter.builder(name, worker, w -> count.apply(w).sum())
+        .tag("consumer", worker.name())
+        .register(registry);
+  }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.event;
+
+import fr.hiitconsulting.socle.domain.shared.event.DomainEvent;
+import fr.hiitconsulting.socle.domain.shared.event.DomainEventConsumer;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Queue of a consumer, drained in batches by its single thread.
+ */
+@Slf4j
+@NullMarked
+final class EventConsumerWorker<E extends DomainEvent> implements Runnable {
+
+  private static final long POLL_TIMEOUT_MILLIS = 100;
+
+  private final DomainEventConsumer<E> consumer;
+  private final BlockingQueue<E> queue;
+  private final int maxBatchSize;
+  private final boolean virtualThread;
+  private final AppProperties.Backpressure backpressure;
+
+  final LongAdder consumed = new LongAdder();
+  final LongAdder dropped = new LongAdder();
+  final LongAdder failed = new LongAdder();
+
+  private volatile boolean running;
+  private volatile boolean stopped;
+  private @Nullable Thread thread;
+
+  EventConsumerWorker(DomainEventConsumer<E> consumer, AppProperties.EventConsumer properties) {
+    this.consumer = consumer;
+    this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    this.maxBatchSize = properties.getMaxBatchSize();
+    this.virtualThread = properties.isVirtualThread();
+    this.backpressure = properties.getBackpressure();
+  }
+
+  String name() {
+    return consumer.name();
+  }
+
+  boolean accepts(Class<?> eventType) {
+    return consumer.eventType().isAssignableFrom(eventType);
+  }
+
+  int depth() {
+    return queue.size();
+  }
+
+  int capacity() {
+    return queue.size() + queue.remainingCapacity();
+  }
+
+  /**
+   * Queues the event, events published before the start being consumed once started.
+   *
+   * @throws RejectedExecutionException once stopped, or when the queue is full and the
+   *     back pressure policy rejects the event
+   */
+  void enqueue(DomainEvent event) {
+    E typed = consumer.eventType().cast(event);
+    if (stopped) {
+      throw new RejectedExecutionException("Consumer " + name() + " is stopped");
+    }
+    if (queue.offer(typed)) {
+      return;
+    }
+    switch (backpressure) {
+      case BLOCK -> {
+        try {
+          // the consumer may stop while the publisher waits
+          while (!queue.offer(typed, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (stopped && !isAlive()) {
+              throw new RejectedExecutionException("Consumer " + name() + " is stopped");
+            }
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new RejectedExecutionException("Interrupted while publishing to " + name(), e);
+        }
+      }
+      case DROP -> dropped.increment();
+      case FAIL -> throw new RejectedExecutionException("Event queue of " + name() + " is full");
+    }
+  }
+
+  void start() {
+    running = true;
+    Thread.Builder builder = virtualThread ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+    thread = builder.name("event-" + name()).start(this);
+  }
+
+  void stop() {
+    stopped = true;
+    running = false;
+  }
+
+  private boolean isAlive() {
+    Thread current = thread;
+    return current != null && current.isAlive();
+  }
+
+  /**
+   * Waits for the queue to be drained, then interrupts the consumer.
+   *
+   * @return whether the thread ended in time
+   */
+  boolean join(long deadlineNanos) throws InterruptedException {
+    Thread current = thread;
+    if (current == null) {
+      return true;
+    }
+    long remaining = deadlineNanos - System.nanoTime();
+    if (remaining <= 0 || !current.join(Duration.ofNanos(remaining))) {
+      current.interrupt();
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public void run() {
+    while (running || !queue.isEmpty()) {
+      E first;
+      try {
+        first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        return;
+      }
+      if (first == null) {
+        continue;
+      }
+
+      // the lock of the queue is taken once for the whole batch
+      List<E> batch = new ArrayList<>(Math.min(maxBatchSize, queue.size() + 1));
+      batch.add(first);
+      queue.drainTo(batch, maxBatchSize - 1);
+      try {
+        consumer.consume(batch);
+        consumed.add(batch.size());
+      } catch (RuntimeException | Error e) {
+        // an error must not end the thread silently, leaving the queue to fill up
+        failed.add(batch.size());
+        log.error("Consumer {} failed on a batch of {} events", name(), batch.size(), e);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.idempotency;
+
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Completed response kept for an <code>Idempotency-Key</code>.
+ *
+ * @param fingerprint method, path and body digest of the original request, a key is only
+ *                    replayed for the same request
+ */
+@NullMarked
+public record IdempotentResponse(
+    String fingerprint,
+    int status,
+    Map<String, List<String>> headers,
+    byte[] body
+) {
+
+  /**
+   * Approximate retained size, in bytes.
+   */
+  public int weight() {
+    int weight = fingerprint.length() + body.length;
+    for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+      weight += header.getKey().length();
+      for (String value : header.getValue()) {
+        weight += value.length();
+      }
+    }
+    return weight;
+  }
+
+}
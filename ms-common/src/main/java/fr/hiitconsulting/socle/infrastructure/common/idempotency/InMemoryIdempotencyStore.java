@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.idempotency;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Local {@link IdempotencyStore}, bounded by the size of the kept responses and evicting them
+ * after a fixed time to live.
+ */
+@NullMarked
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+  private final Cache<String, IdempotentResponse> cache;
+
+  public InMemoryIdempotencyStore(DataSize maximumSize, Duration timeToLive) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumWeight(maximumSize.toBytes())
+        .weigher((String key, IdempotentResponse response) -> key.length() + response.weight())
+        .expireAfterWrite(timeToLive)
+        .build();
+  }
+
+  @Override
+  public @Nullable IdempotentResponse get(String key) {
+    return cache.getIfPresent(key);
+  }
+
+  @Override
+  public void put(String key, IdempotentResponse response) {
+    cache.put(key, response);
+  }
+
+}
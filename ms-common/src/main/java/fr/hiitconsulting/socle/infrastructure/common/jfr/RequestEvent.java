@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Flight Recorder event of an HTTP request, from the request logging filter to the end of the
+ * response.
+ *
+ * <br><br>
+ * The event is only created while a recording enables it, and only committed above its
+ * threshold. It is kept as a request attribute meanwhile, so that the request event
+ * interceptor can add the dispatch and handler phases to it, and the exception handler the
+ * exception it mapped.
+ */
+@NullMarked
+@Name(RequestEvent.NAME)
+@Label("HTTP Request")
+@Description("HTTP request handled by ms-common, with the duration of its phases")
+@Category({"ms-common", "HTTP"})
+@Threshold("20 ms")
+@StackTrace(false)
+public class RequestEvent extends jdk.jfr.Event {
+
+  public static final String NAME = "fr.hiitconsulting.socle.Request";
+
+  private static final String ATTRIBUTE = RequestEvent.class.getName();
+
+  @Label("Method")
+  String method = "";
+
+  @Label("Route")
+  @Description("Pattern of the matched handler mapping, or the URI when none matched")
+  String route = "";
+
+  @Label("Status")
+  int status;
+
+  @Label("Response Size")
+  @DataAmount
+  long responseBytes = -1;
+
+  @Label("Dispatch Duration")
+  @Description("Time spent in filters and interceptors before the handler")
+  @Timespan
+  long dispatchDuration;
+
+  @Label("Handler Duration")
+  @Description("Time spent in the handler, including response body serialization and exception "
+      + "mapping")
+  @Timespan
+  long handlerDuration;
+
+  @Label("Exception")
+  @Description("Exception mapped to an error response")
+  @Nullable
+  String exception;
+
+  private transient long startNanos;
+  private transient long handlerStartNanos;
+
+  /**
+   * Starts the event of the request, when enabled.
+   */
+  public static @Nullable RequestEvent begin(HttpServletRequest request) {
+    RequestEvent event = new RequestEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    event.startNanos = System.nanoTime();
+    event.method = request.getMethod();
+    request.setAttribute(ATTRIBUTE, event);
+    return event;
+  }
+
+  public static @Nullable RequestEvent current(HttpServletRequest request) {
+    return (RequestEvent) request.getAttribute(ATTRIBUTE);
+  }
+
+  public static @Nullable RequestEvent current() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    return attributes instanceof ServletRequestAttributes servletAttributes
+        ? current(servletAttributes.getRequest())
+        : null;
+  }
+
+  public void handlerStarted() {
+    handlerStartNanos = System.nanoTime();
+    dispatchDuration = handlerStartNanos - startNanos;
+  }
+
+  public void handlerCompleted() {
+    if (handlerStartNanos != 0) {
+      handlerDuration = System.nanoTime() - handlerStartNanos;
+    }
+  }
+
+  public void exception(Throwable exception) {
+    this.exception = exception.getClass().getName();
+  }
+
+  /**
+   * Ends the event and commits it when above its threshold.
+   */
+  public void complete(String route, int status, long responseBytes) {
+    end();
+    if (shouldCommit()) {
+      this.route = route;
+      this.status = status;
+      this.responseBytes = responseBytes;
+      commit();
+    }
+  }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Token bucket of <code>capacity</code> tokens, refilled continuously over the period.
+ *
+ * <br><br>
+ * Rather than a token count and a last refill time, which would have to be updated together
+ * under a lock, the bucket only holds the instant at which it will be full again: each token
+ * taken pushes it one refill interval later, and a request is refused when it would be more
+ * than a period ahead. Taking a token is a single compare-and-set, retried under contention.
+ */
+@NullMarked
+public final class TokenBucket {
+
+  private final long periodNanos;
+  private final long intervalNanos;
+  private final AtomicLong fullAt;
+
+  public TokenBucket(long capacity, Duration period, long nowNanos) {
+    this.periodNanos = period.toNanos();
+    this.intervalNanos = Math.max(1, periodNanos / capacity);
+    this.fullAt = new AtomicLong(nowNanos);
+  }
+
+  /**
+   * Takes a token.
+   *
+   * @return the tokens left when one was taken, otherwise the negated delay in nanoseconds
+   *     before the next one is available
+   */
+  public long tryConsume(long nowNanos) {
+    while (true) {
+      long current = fullAt.get();
+      long next = Math.max(current, nowNanos) + intervalNanos;
+      long used = next - nowNanos;
+      if (used > periodNanos) {
+        return -(used - periodNanos);
+      }
+      if (fullAt.compareAndSet(current, next)) {
+        return (periodNanos - used) / intervalNanos;
+      }
+    }
+  }
+
+  public long nanosUntilFull(long nowNanos) {
+    return Math.max(0, fullAt.get() - nowNanos);
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.route;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.CacheControl;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <code>Cache-Control</code> directives of a response, unset ones being left to the defaults.
+ */
+@NullMarked
+public record CacheDirectives(@Nullable Long maxAge, @Nullable Boolean noCache,
+                              @Nullable Boolean noStore, @Nullable Boolean privateCache,
+                              @Nullable Long staleWhileRevalidate) {
+
+  public static CacheDirectives of(CacheControl annotation) {
+    return new CacheDirectives(annotation.maxAge(), annotation.noCache(), annotation.noStore(),
+        annotation.privateCache(), annotation.staleWhileRevalidate());
+  }
+
+  /**
+   * Completes the unset directives with the given defaults.
+   */
+  public CacheDirectives orElse(@Nullable CacheDirectives defaults) {
+    if (defaults == null) {
+      return this;
+    }
+    return new CacheDirectives(
+        maxAge != null ? maxAge : defaults.maxAge,
+        noCache != null ? noCache : defaults.noCache,
+        noStore != null ? noStore : defaults.noStore,
+        privateCache != null ? privateCache : defaults.privateCache,
+        staleWhileRevalidate != null ? staleWhileRevalidate : defaults.staleWhileRevalidate);
+  }
+
+  /**
+   * Returns the header value, empty when no directive is set.
+   */
+  public String toHeaderValue() {
+    List<String> headerValues = new ArrayList<>();
+    if (Boolean.TRUE.equals(noCache)) {
+      headerValues.add("no-cache");
+    }
+
+    if (Boolean.TRUE.equals(noStore)) {
+      headerValues.add("no-store");
+    }
+
+    if (headerValues.isEmpty()) {
+      if (Boolean.TRUE.equals(privateCache)) {
+        headerValues.add("private");
+      }
+
+      if (maxAge != null && maxAge > 0) {
+        headerValues.add("max-age=" + maxAge);
+      }
+
+      if (staleWhileRevalidate != null && staleWhileRevalidate > 0) {
+        headerValues.add("stale-while-revalidate=" + staleWhileRevalidate);
+      }
+    }
+    return String.join(", ", headerValues);
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package fr.hiitconsulting.socle.infrastructure.common.route;
+
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Compiled patterns and methods of a list of routes, finding the first one matching a request.
+ *
+ * <br><br>
+ * Routes are referred to by their index in the list they were compiled from, so that each
+ * caller keeps its own settings alongside. The path of the request is only parsed once a route
+ * matches its method.
+ */
+@NullMarked
+public final class RouteMatcher {
+
+  private final List<Route> routes;
+
+  private RouteMatcher(List<Route> routes) {
+    this.routes = routes;
+  }
+
+  /**
+   * @throws org.springframework.web.util.pattern.PatternParseException on an invalid pattern
+   */
+  public static RouteMatcher compile(List<? extends AppProperties.RouteMatch> routes) {
+    return new RouteMatcher(routes.stream()
+        .map(route -> new Route(PathPatternParser.defaultInstance.parse(route.getPattern()),
+            route.getMethods().stream().map(String::toUpperCase).collect(Collectors.toSet())))
+        .toList());
+  }
+
+  /**
+   * Index of the first route matching the request, <code>-1</code> when none does.
+   */
+  public int indexOf(HttpServletRequest request) {
+    PathContainer path = null;
+    for (int index = 0; index < routes.size(); index++) {
+      Route route = routes.get(index);
+      if (!route.methods().isEmpty() && !route.methods().contains(request.getMethod())) {
+        continue;
+      }
+      if (path == null) {
+        path = RequestPath.parse(request.getRequestURI(), request.getContextPath())
+            .pathWithinApplication();
+      }
+      if (route.pattern().matches(path)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Methods and pattern of the route at the index, such as <code>GET /reports/**</code>.
+   */
+  public String describe(int index) {
+    Route route = routes.get(index);
+    String methods = route.methods().isEmpty() ? "*"
+        : route.methods().stream().sorted().collect(Collectors.joining(","));
+    return methods + " " + route.pattern().getPatternString();
+  }
+
+  private record Route(PathPattern pattern, Set<String> methods) {
+
+  }
+
+}
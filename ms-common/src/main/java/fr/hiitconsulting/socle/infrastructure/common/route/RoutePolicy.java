@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.route;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Settings of the requests matching a route of <code>app.routes</code>.
+ *
+ * @param cacheControl  directives overriding the <code>@CacheControl</code> annotation of the
+ *                      method, whose values remain the defaults
+ * @param logging       whether the requests are logged
+ * @param logSampleRate share of the requests logged, between 0 and 1
+ * @param etag          whether the ETag of the responses is computed
+ */
+@NullMarked
+public record RoutePolicy(@Nullable CacheDirectives cacheControl, boolean logging,
+                          double logSampleRate, boolean etag) {
+
+  /**
+   * Policy of the requests matching no route.
+   */
+  public static final RoutePolicy DEFAULT = new RoutePolicy(null, true, 1, true);
+
+  /**
+   * Tells whether the current request is logged, sampling it when required.
+   */
+  public boolean shouldLog() {
+    return logging
+        && (logSampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < logSampleRate);
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.route;
+
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Holds the current {@link RouteTable}, compiled from the <code>app.routes</code> properties at
+ * startup, then from the routes given to {@link #replace(List)}.
+ *
+ * <br><br>
+ * The table is replaced at once, so that a lookup sees either all the former routes or all the
+ * new ones, and the routes of the {@link AppProperties} are replaced along. Routes failing to
+ * compile on an invalid pattern keep the former table.
+ */
+@NullMarked
+public class RouteRegistry {
+
+  private final AppProperties properties;
+  private volatile RouteTable table;
+
+  public RouteRegistry(AppProperties properties) {
+    this.properties = properties;
+    this.table = RouteTable.compile(properties.getRoutes());
+  }
+
+  public RouteTable current() {
+    return table;
+  }
+
+  /**
+   * @throws org.springframework.web.util.pattern.PatternParseException on an invalid pattern
+   */
+  public synchronized RouteTable replace(List<AppProperties.Route> routes) {
+    RouteTable replaced = RouteTable.compile(routes);
+    properties.setRoutes(new ArrayList<>(routes));
+    table = replaced;
+    return replaced;
+  }
+
+}
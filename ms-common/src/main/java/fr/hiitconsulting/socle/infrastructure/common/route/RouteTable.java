@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.route;
+
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable lookup of the {@link RoutePolicy} of a request, compiled from
+ * <code>app.routes</code>.
+ *
+ * <br><br>
+ * The first route whose methods and pattern match the request applies, the
+ * {@link RoutePolicy#DEFAULT} policy otherwise. Without routes, requests are not even parsed.
+ */
+@NullMarked
+public final class RouteTable {
+
+  public static final RouteTable EMPTY = compile(List.of());
+
+  private final RouteMatcher matcher;
+  private final List<RoutePolicy> policies;
+
+  private RouteTable(RouteMatcher matcher, List<RoutePolicy> policies) {
+    this.matcher = matcher;
+    this.policies = policies;
+  }
+
+  /**
+   * @throws org.springframework.web.util.pattern.PatternParseException on an invalid pattern
+   */
+  public static RouteTable compile(List<AppProperties.Route> routes) {
+    return new RouteTable(RouteMatcher.compile(routes),
+        routes.stream().map(RouteTable::policy).toList());
+  }
+
+  private static RoutePolicy policy(AppProperties.Route route) {
+    AppProperties.RouteCacheControl cacheControl = route.getCacheControl();
+    AppProperties.RouteLogging logging = route.getLogging();
+    return new RoutePolicy(
+        cacheControl == null ? null : new CacheDirectives(
+            seconds(cacheControl.getMaxAge()), cacheControl.getNoCache(),
+            cacheControl.getNoStore(), cacheControl.getPrivateCache(),
+            seconds(cacheControl.getStaleWhileRevalidate())),
+        logging == null || logging.isEnabled(),
+        logging == null ? 1 : logging.getSampleRate(),
+        route.isEtag());
+  }
+
+  private static @Nullable Long seconds(@Nullable Duration duration) {
+    return duration == null ? null : duration.toSeconds();
+  }
+
+  public RoutePolicy find(HttpServletRequest request) {
+    int index = matcher.indexOf(request);
+    return index < 0 ? RoutePolicy.DEFAULT : policies.get(index);
+  }
+
+  /**
+   * Policies by route, such as <code>GET /reports/**</code>, in matching order.
+   */
+  public Map<String, RoutePolicy> describe() {
+    Map<String, RoutePolicy> description = new LinkedHashMap<>();
+    for (int index = 0; index < policies.size(); index++) {
+      description.put(matcher.describe(index), policies.get(index));
+    }
+    return description;
+  }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.statistics;
+
+import fr.hiitconsulting.socle.domain.shared.exception.AbstractNotFoundException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Live statistics of the ms-common request path, reported by the <code>mscommon</code>
+ * actuator endpoint.
+ *
+ * <br><br>
+ * Recording never locks: latencies go to an HdrHistogram {@link Recorder} per route and
+ * counters to {@link LongAdder}s. Percentiles and rates cover the last window of at least
+ * {@value #WINDOW_SECONDS} seconds, rotated when read.
+ */
+@NullMarked
+public class HotPathStatistics {
+
+  public static final String UNMATCHED_ROUTE = "UNMATCHED";
+  public static final String OTHER_ROUTES = "OTHER";
+
+  private static final int WINDOW_SECONDS = 10;
+  private static final int MAXIMUM_ROUTES = 512;
+  private static final String DOMAIN_EXCEPTION_PACKAGE =
+      AbstractNotFoundException.class.getPackageName();
+  private static final boolean LOGBACK_PRESENT = ClassUtils.isPresent(
+      "ch.qos.logback.classic.LoggerContext", HotPathStatistics.class.getClassLoader());
+
+  private final ConcurrentMap<String, RouteStatistics> routes = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, LongAdder> exceptions = new ConcurrentHashMap<>();
+  private final LongAdder etagHashed = new LongAdder();
+  private final LongAdder etagNotModified = new LongAdder();
+  private final LongAdder etagBufferedBytes = new LongAdder();
+
+  public void recordRequest(@Nullable String route, int status, long durationNanos) {
+    String key = route != null ? route : UNMATCHED_ROUTE;
+    RouteStatistics statistics = routes.get(key);
+    if (statistics == null) {
+      key = routes.size() < MAXIMUM_ROUTES ? key : OTHER_ROUTES;
+      statistics = routes.computeIfAbsent(key, k -> new RouteStatistics());
+    }
+    statistics.record(status, durationNanos);
+  }
+
+  /**
+   * Counts an exception under the <code>Abstract*Exception</code> type it extends, or else its
+   * own type.
+   */
+  public void recordException(Throwable exception) {
+    exceptions.computeIfAbsent(exceptionType(exception.getClass()), k -> new LongAdder())
+        .increment();
+  }
+
+  public void recordEtag(long bufferedBytes) {
+    etagHashed.increment();
+    etagBufferedBytes.add(bufferedBytes);
+  }
+
+  public void recordNotModified() {
+    etagNotModified.increment();
+  }
+
+  public Snapshot snapshot() {
+    Map<String, RouteSnapshot> routeSnapshots = new TreeMap<>();
+    long now = System.nanoTime();
+    routes.forEach((route, statistics) -> routeSnapshots.put(route, statistics.snapshot(now)));
+
+    Map<String, Long> exceptionCounts = new TreeMap<>();
+    exceptions.forEach((type, count) -> exceptionCounts.put(type, count.sum()));
+
+    long hashed = etagHashed.sum();
+    long notModified = etagNotModified.sum();
+    EtagSnapshot etag = new EtagSnapshot(hashed, notModified,
+        hashed == 0 ? 0 : (double) notModified / hashed, etagBufferedBytes.sum());
+
+    return new Snapshot(routeSnapshots, etag, exceptionCounts,
+        LOGBACK_PRESENT ? LogbackQueues.snapshot() : List.of());
+  }
+
+  private static String exceptionType(Class<?> type) {
+    for (Class<?> candidate = type; candidate != null; candidate = candidate.getSuperclass()) {
+      if (candidate.getPackageName().equals(DOMAIN_EXCEPTION_PACKAGE)
+          && candidate.getSimpleName().startsWith("Abstract")) {
+        return candidate.getSimpleName();
+      }
+    }
+    return type.getSimpleName();
+  }
+
+  private static final class RouteStatistics {
+
+    private final Recorder recorder = new Recorder(2);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+
+    @Nullable
+    private Histogram window;
+    private long windowStart = System.nanoTime();
+    private long windowNanos;
+
+    void record(int status, long durationNanos) {
+      recorder.recordValue(durationNanos);
+      requests.increment();
+      if (status >= 500) {
+        serverErrors.increment();
+      }
+    }
+
+    synchronized RouteSnapshot snapshot(long now) {
+      Histogram window = this.window;
+      if (window == null || now - windowStart >= TimeUnit.SECONDS.toNanos(WINDOW_SECONDS)) {
+        window = window == null ? recorder.getIntervalHistogram()
+            : recorder.getIntervalHistogram(window);
+        this.window = window;
+        windowNanos = now - windowStart;
+        windowStart = now;
+      }
+
+      double seconds = (double) windowNanos / TimeUnit.SECONDS.toNanos(1);
+      return new RouteSnapshot(requests.sum(), serverErrors.sum(),
+          Duration.ofNanos(windowNanos), window.getTotalCount() / seconds,
+          millis(window.getValueAtPercentile(50)), millis(window.getValueAtPercentile(90)),
+          millis(window.getValueAtPercentile(99)), millis(window.getValueAtPercentile(99.9)),
+          millis(window.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+      return nanos / 1_000_000d;
+    }
+
+  }
+
+  public record Snapshot(
+      Map<String, RouteSnapshot> routes,
+      EtagSnapshot etag,
+      Map<String, Long> exceptions,
+      List<LoggingQueueSnapshot> loggingQueues
+  ) {
+
+  }
+
+  /**
+   * Statistics of a route. Counters are totals since startup, rate and latencies in milliseconds
+   * cover the last window.
+   */
+  public record RouteSnapshot(
+      long requests,
+      long serverErrors,
+      Duration window,
+      double requestsPerSecond,
+      double p50,
+      double p90,
+      double p99,
+      double p999,
+      double max
+  ) {
+
+  }
+
+  /**
+   * @param hashed        responses hashed by the ETag filter
+   * @param notModified   responses answered with 304 Not Modified
+   * @param bufferedBytes bytes buffered by the ETag filter to hash them
+   */
+  public record EtagSnapshot(long hashed, long notModified, double hitRatio, long bufferedBytes) {
+
+  }
+
+  /**
+   * Queue of an asynchronous Logback appender. Logback discards events once the remaining
+   * capacity falls under its discarding threshold.
+   */
+  public record LoggingQueueSnapshot(String appender, int depth, int capacity,
+                                     int remainingCapacity) {
+
+  }
+
+}
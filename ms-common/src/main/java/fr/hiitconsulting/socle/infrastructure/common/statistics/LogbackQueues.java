@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.statistics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the queues of the asynchronous appenders attached to the Logback root logger. Kept
+ * apart so that Logback is only loaded when present.
+ */
+@NullMarked
+final class LogbackQueues {
+
+  private LogbackQueues() {
+  }
+
+  static List<HotPathStatistics.LoggingQueueSnapshot> snapshot() {
+    if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+      return List.of();
+    }
+
+    List<HotPathStatistics.LoggingQueueSnapshot> queues = new ArrayList<>();
+    Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME)
+        .iteratorForAppenders();
+    while (appenders.hasNext()) {
+      if (appenders.next() instanceof AsyncAppenderBase<ILoggingEvent> async) {
+        queues.add(new HotPathStatistics.LoggingQueueSnapshot(async.getName(),
+            async.getNumberOfElementsInQueue(), async.getQueueSize(),
+            async.getRemainingCapacity()));
+      }
+    }
+    return queues;
+  }
+
+}
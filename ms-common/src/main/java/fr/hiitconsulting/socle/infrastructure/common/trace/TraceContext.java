@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.trace;
+
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * W3C trace context of a request.
+ *
+ * <br><br>
+ * Identifiers are kept as primitives and only formatted on demand. New identifiers come from
+ * {@link ThreadLocalRandom}, which neither locks nor contends between threads, virtual ones
+ * included.
+ *
+ * @see <a href="https://www.w3.org/TR/trace-context/#traceparent-header">traceparent header</a>
+ */
+@NullMarked
+public record TraceContext(long traceIdHigh, long traceIdLow, long spanId, byte flags) {
+
+  public static final String TRACEPARENT = "traceparent";
+
+  private static final HexFormat HEX = HexFormat.of();
+  private static final int TRACEPARENT_LENGTH = 55;
+  private static final byte SAMPLED = 1;
+
+  /**
+   * Starts a new sampled trace.
+   */
+  public static TraceContext generate() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return new TraceContext(random.nextLong(), nonZero(random), nonZero(random), SAMPLED);
+  }
+
+  /**
+   * Parses a <code>traceparent</code> header, {@code null} when it is missing or invalid.
+   *
+   * <br><br>
+   * Version <code>00</code> headers are exactly 55 characters long, and future versions may
+   * append fields after a dash. Identifiers are lowercase hexadecimal.
+   */
+  public static @Nullable TraceContext parse(@Nullable String traceparent) {
+    if (traceparent == null || traceparent.length() < TRACEPARENT_LENGTH
+        || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-'
+        || traceparent.charAt(52) != '-' || traceparent.startsWith("ff")
+        || (traceparent.startsWith("00") ? traceparent.length() != TRACEPARENT_LENGTH
+            : traceparent.length() > TRACEPARENT_LENGTH && traceparent.charAt(55) != '-')
+        || !isLowerHex(traceparent)) {
+      return null;
+    }
+
+    long high = HEX.fromHexDigitsToLong(traceparent, 3, 19);
+    long low = HEX.fromHexDigitsToLong(traceparent, 19, 35);
+    long spanId = HEX.fromHexDigitsToLong(traceparent, 36, 52);
+    byte flags = (byte) HEX.fromHexDigits(traceparent, 53, 55);
+
+    if ((high == 0 && low == 0) || spanId == 0) {
+      return null;
+    }
+    return new TraceContext(high, low, spanId, flags);
+  }
+
+  /**
+   * Whether the fields of the first 55 characters are lowercase hexadecimal,
+   * {@link HexFormat} accepting both cases.
+   */
+  private static boolean isLowerHex(String traceparent) {
+    for (int index = 0; index < TRACEPARENT_LENGTH; index++) {
+      char c = traceparent.charAt(index);
+      boolean separator = index == 2 || index == 35 || index == 52;
+      if (!separator && (c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Context of a child span, to send on outgoing calls.
+   */
+  public TraceContext child() {
+    return new TraceContext(traceIdHigh, traceIdLow, nonZero(ThreadLocalRandom.current()), flags);
+  }
+
+  public String traceId() {
+    return HEX.toHexDigits(traceIdHigh) + HEX.toHexDigits(traceIdLow);
+  }
+
+  public String spanIdHex() {
+    return HEX.toHexDigits(spanId);
+  }
+
+  public String toTraceparent() {
+    return "00-" + traceId() + "-" + spanIdHex() + "-" + HEX.toHexDigits(flags);
+  }
+
+  private static long nonZero(ThreadLocalRandom random) {
+    long value;
+    do {
+      value = random.nextLong();
+    } while (value == 0);
+    return value;
+  }
+
+}
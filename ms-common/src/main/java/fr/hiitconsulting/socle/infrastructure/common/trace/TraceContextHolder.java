@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.common.trace;
+
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.MDC;
+
+/**
+ * Trace context of the current thread.
+ *
+ * <br><br>
+ * The context is bound in a <code>ScopedValue</code> for the duration of a request by the
+ * correlation filter, like the deadline of the request. Within the scope, its identifiers are
+ * also copied to the <code>traceId</code> and <code>spanId</code> MDC entries, the keys used by
+ * Spring Boot correlation logging, and the former entries are restored on exit.
+ */
+@NullMarked
+@UtilityClass
+public class TraceContextHolder {
+
+  public static final String TRACE_ID_KEY = "traceId";
+  public static final String SPAN_ID_KEY = "spanId";
+
+  private static final ScopedValue<TraceContext> CURRENT = ScopedValue.newInstance();
+
+  public static @Nullable TraceContext current() {
+    return CURRENT.orElse(null);
+  }
+
+  public static @Nullable String currentTraceId() {
+    return MDC.get(TRACE_ID_KEY);
+  }
+
+  /**
+   * Runs the operation with the trace context bound, replacing the current one if any.
+   */
+  public static <R, X extends Throwable> R call(TraceContext context,
+      ScopedValue.CallableOp<? extends R, X> operation) throws X {
+    return ScopedValue.where(CURRENT, context).call(() -> {
+      String traceId = MDC.get(TRACE_ID_KEY);
+      String spanId = MDC.get(SPAN_ID_KEY);
+      MDC.put(TRACE_ID_KEY, context.traceId());
+      MDC.put(SPAN_ID_KEY, context.spanIdHex());
+      try {
+        return operation.call();
+      } finally {
+        restore(TRACE_ID_KEY, traceId);
+        restore(SPAN_ID_KEY, spanId);
+      }
+    });
+  }
+
+  private static void restore(String key, @Nullable String value) {
+    if (value == null) {
+      MDC.remove(key);
+    } else {
+      MDC.put(key, value);
+    }
+  }
+
+}
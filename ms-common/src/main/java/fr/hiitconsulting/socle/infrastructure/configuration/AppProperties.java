@@ -26,18 +26,27 @@
 package fr.hiitconsulting.socle.infrastructure.configuration;
 
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @Data
 @NullMarked
 @Validated
-@Configuration
 @ConfigurationProperties("app")
 public class AppProperties {
 
@@ -45,11 +54,497 @@ public class AppProperties {
   @Nullable
   private RequestLogging requestLogging;
 
+  /**
+   * Policies of specific routes, the first matching one applying. They can be replaced without
+   * redeploying with a POST of the new routes to the <code>routes</code> actuator endpoint.
+   */
+  private List<@Valid Route> routes = new ArrayList<>();
+
+  private Feature cacheControl = new Feature();
+
+  private Feature etag = new Feature();
+
+  private Feature exceptionHandler = new Feature();
+
+  private Feature sparseFieldsets = new Feature();
+
+  private Feature binaryCodecs = new Feature();
+
+  private Feature cursorPagination = new Feature();
+
+  private Feature typedIds = new Feature();
+
+  private Feature fileDownload = new Feature();
+
+  private Feature correlation = new Feature();
+
+  private Idempotency idempotency = new Idempotency();
+
+  private SingleFlight singleFlight = new SingleFlight();
+
+  @Valid
+  private HttpClient httpClient = new HttpClient();
+
+  @Valid
+  private Batch batch = new Batch();
+
+  @Valid
+  private Events events = new Events();
+
+  @Valid
+  private RateLimit rateLimit = new RateLimit();
+
+  @Valid
+  private StreamingBody streamingBody = new StreamingBody();
+
+  @Valid
+  private RequestDeadline deadline = new RequestDeadline();
+
+  @Valid
+  private Caches caches = new Caches();
+
+  private Jackson jackson = new Jackson();
+
+  @Valid
+  private TrainingRun trainingRun = new TrainingRun();
+
   @Data
   public static class RequestLogging {
 
-    @NotBlank
+    private boolean enabled = true;
+
+    @Nullable
+    @Pattern(regexp = ".*\\S.*", message = "must not be blank")
     private String exclusionPattern;
   }
 
+  /**
+   * Requests of a route: those whose path matches the pattern, sent with one of the methods.
+   */
+  @Data
+  public abstract static class RouteMatch {
+
+    /**
+     * Path pattern of the route, such as <code>/reports/**</code>.
+     */
+    @Pattern(regexp = "/.*", message = "must start with /")
+    private String pattern = "/**";
+
+    /**
+     * HTTP methods of the route, all when empty.
+     */
+    private List<String> methods = new ArrayList<>();
+  }
+
+  @Data
+  @EqualsAndHashCode(callSuper = true)
+  @ToString(callSuper = true)
+  public static class Route extends RouteMatch {
+
+    /**
+     * Cache-Control directives, overriding the ones of the @CacheControl annotation.
+     */
+    @Nullable
+    private RouteCacheControl cacheControl;
+
+    @Valid
+    @Nullable
+    private RouteLogging logging;
+
+    /**
+     * Compute the ETag of the responses.
+     */
+    private boolean etag = true;
+  }
+
+  @Data
+  public static class RouteCacheControl {
+
+    @Nullable
+    private Duration maxAge;
+
+    @Nullable
+    private Boolean noCache;
+
+    @Nullable
+    private Boolean noStore;
+
+    @Nullable
+    private Boolean privateCache;
+
+    @Nullable
+    private Duration staleWhileRevalidate;
+  }
+
+  @Data
+  public static class RouteLogging {
+
+    private boolean enabled = true;
+
+    /**
+     * Share of the requests logged, between 0 and 1.
+     */
+    @DecimalMin("0")
+    @DecimalMax("1")
+    private double sampleRate = 1;
+  }
+
+  @Data
+  public static class Feature {
+
+    private boolean enabled = true;
+  }
+
+  @Data
+  public static class Jackson {
+
+    /**
+     * Use generated accessors instead of reflection, disable it for native images.
+     */
+    private boolean blackbird = true;
+
+    /**
+     * Build the serializers of the controller body types before reporting ready.
+     */
+    private boolean warmUp = true;
+  }
+
+  @Data
+  public static class Idempotency {
+
+    /**
+     * Replay the responses of unsafe requests repeated with the same
+     * <code>Idempotency-Key</code>.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Memory retained by the in-memory store, counting response bodies and headers.
+     */
+    private DataSize maximumSize = DataSize.ofMegabytes(32);
+
+    /**
+     * How long a response is replayed for its key.
+     */
+    private Duration timeToLive = Duration.ofHours(1);
+
+    /**
+     * How long a duplicate waits for the original request before being rejected.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Largest request body read ahead to be compared with the original request, larger
+     * requests executing without idempotency.
+     */
+    private DataSize maximumBodySize = DataSize.ofMegabytes(1);
+  }
+
+  @Data
+  public static class SingleFlight {
+
+    private boolean enabled = true;
+
+    /**
+     * How long an identical request waits for the running one before executing on its own.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(5);
+  }
+
+  @Data
+  public static class HttpClient {
+
+    private boolean enabled = true;
+
+    /**
+     * Send the requests of the <code>RestClient.Builder</code> through the shared client.
+     * Disable it to keep the request factory of Spring Boot, configured by the
+     * <code>spring.http.client</code> properties and SSL bundles.
+     */
+    private boolean sharedClient = true;
+
+    /**
+     * Preferred protocol, HTTP/2 connections are multiplexed.
+     */
+    private java.net.http.HttpClient.Version version = java.net.http.HttpClient.Version.HTTP_2;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Delay before the response headers are received.
+     */
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Concurrent requests, hence connections, to a single host.
+     */
+    @Positive
+    private int maxConnectionsPerHost = 64;
+
+    /**
+     * How long a request waits for a connection to a busy host before failing.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(1);
+
+    private Hedging hedging = new Hedging();
+  }
+
+  @Data
+  public static class Hedging {
+
+    private boolean enabled = false;
+
+    /**
+     * Lower bound of the delay before a slow GET is sent again, the delay being the 95th
+     * percentile latency of the host.
+     */
+    private Duration minimumDelay = Duration.ofMillis(20);
+  }
+
+  @Data
+  public static class Batch {
+
+    /**
+     * Expose the <code>/batch</code> endpoint running several GET requests at once.
+     */
+    private boolean enabled = false;
+
+    @Positive
+    private int maxRequests = 50;
+  }
+
+  @Data
+  public static class Events {
+
+    private boolean enabled = true;
+
+    /**
+     * How long the consumers are given to drain their queue on shutdown.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Consumers by name, the ones not listed use the default settings.
+     */
+    private Map<String, @Valid EventConsumer> consumers = new LinkedHashMap<>();
+  }
+
+  @Data
+  public static class EventConsumer {
+
+    /**
+     * Events waiting to be consumed before back pressure is applied.
+     */
+    @Positive
+    private int queueCapacity = 1024;
+
+    @Positive
+    private int maxBatchSize = 256;
+
+    /**
+     * Run the consumer on a virtual thread, or on a dedicated platform thread for CPU-bound
+     * consumers.
+     */
+    private boolean virtualThread = true;
+
+    private Backpressure backpressure = Backpressure.BLOCK;
+  }
+
+  public enum Backpressure {
+
+    /**
+     * The publisher waits for room in the queue.
+     */
+    BLOCK,
+
+    /**
+     * The event is discarded and counted.
+     */
+    DROP,
+
+    /**
+     * The publisher gets a RejectedExecutionException.
+     */
+    FAIL
+  }
+
+  @Data
+  public static class RequestDeadline {
+
+    private boolean enabled = true;
+
+    /**
+     * Header holding the time left to the client, in milliseconds, read from requests and set
+     * on outbound calls.
+     */
+    private String header = "X-Request-Timeout";
+
+    /**
+     * Deadline of the requests without header nor route timeout, none when unset.
+     */
+    @Nullable
+    private Duration defaultTimeout;
+
+    /**
+     * Deadlines of specific routes, the first matching one applying. A shorter deadline sent by
+     * the client prevails.
+     */
+    private List<@Valid DeadlineRoute> routes = new ArrayList<>();
+  }
+
+  @Data
+  @EqualsAndHashCode(callSuper = true)
+  @ToString(callSuper = true)
+  public static class DeadlineRoute extends RouteMatch {
+
+    private Duration timeout = Duration.ofSeconds(10);
+  }
+
+  @Data
+  public static class StreamingBody {
+
+    private boolean enabled = true;
+
+    /**
+     * Elements allowed in a streamed body, unless set by its annotation.
+     */
+    @Positive
+    private long maxElements = 100_000;
+
+    /**
+     * Nesting depth of objects and arrays allowed in an element.
+     */
+    @Positive
+    private int maxDepth = 32;
+
+    /**
+     * Length of a string value allowed in an element.
+     */
+    private DataSize maxStringLength = DataSize.ofKilobytes(64);
+  }
+
+  @Data
+  public static class RateLimit {
+
+    /**
+     * Limit the requests of each client, answering <code>429 Too Many Requests</code> past
+     * its budget.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How clients are identified, the first one available for a request being used.
+     */
+    private List<RateLimitKey> keys = new ArrayList<>(
+        List.of(RateLimitKey.PRINCIPAL, RateLimitKey.IP));
+
+    /**
+     * Request attribute holding the API key once authenticated, set by the authentication
+     * layer.
+     */
+    private String apiKeyAttribute = "app.rate-limit.api-key";
+
+    /**
+     * Budgets tracked at once, the least recently used ones being evicted past it.
+     */
+    @Positive
+    private long maxClients = 100_000;
+
+    /**
+     * Requests allowed per period, for the routes not listed.
+     */
+    @Positive
+    private long limit = 100;
+
+    private Duration period = Duration.ofSeconds(1);
+
+    /**
+     * Budgets of specific routes, the first matching one applying.
+     */
+    private List<@Valid RateLimitRoute> routes = new ArrayList<>();
+  }
+
+  public enum RateLimitKey {
+
+    /**
+     * API key authenticated by the application, read from the API key request attribute. The
+     * API key header itself is never trusted, any client being free to send a new value with
+     * each request.
+     */
+    API_KEY,
+
+    /**
+     * Name of the authenticated user.
+     */
+    PRINCIPAL,
+
+    /**
+     * Client address, as resolved by the server forward headers strategy.
+     */
+    IP
+  }
+
+  @Data
+  @EqualsAndHashCode(callSuper = true)
+  @ToString(callSuper = true)
+  public static class RateLimitRoute extends RouteMatch {
+
+    @Positive
+    private long limit = 100;
+
+    private Duration period = Duration.ofSeconds(1);
+  }
+
+  @Data
+  public static class Caches {
+
+    private boolean enabled = true;
+
+    /**
+     * Local caches, by name, registered on the Caffeine cache manager.
+     */
+    private Map<String, @Valid LocalCache> specs = new LinkedHashMap<>();
+  }
+
+  @Data
+  public static class LocalCache {
+
+    /**
+     * Sum of the entry weights before eviction. Entries weigh 1 unless they are Weighted.
+     */
+    @Positive
+    private long maximumWeight = 10_000;
+
+    /**
+     * Delay after which an entry expires, never when unset.
+     */
+    @Nullable
+    private Duration timeToLive;
+
+    /**
+     * Delay after which an entry read is reloaded in the background by the NamedCacheLoader of
+     * the cache, never when unset.
+     */
+    @Nullable
+    private Duration refreshAfterWrite;
+  }
+
+  @Data
+  public static class TrainingRun {
+
+    /**
+     * Send synthetic requests once started, then exit. Meant for AOT cache and CDS archive
+     * generation only.
+     */
+    private boolean enabled = false;
+
+    @Positive
+    private int iterations = 1000;
+
+    /**
+     * Application paths additionally requested with GET on each iteration.
+     */
+    private List<String> paths = new ArrayList<>();
+  }
+
 }
@@ -26,10 +26,10 @@
 package fr.hiitconsulting.socle.infrastructure.configuration;
 
 import fr.hiitconsulting.socle.infrastructure.common.adapter.in.CacheAnnotationInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.route.RouteRegistry;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NullMarked;
-import org.springframework.context.annotation.Bean;
-import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.jspecify.annotations.Nullable;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -37,14 +37,12 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @RequiredArgsConstructor
 public class CacheConfiguration implements WebMvcConfigurer {
 
+  @Nullable
+  private final RouteRegistry routes;
+
   @Override
   public void addInterceptors(InterceptorRegistry registry) {
-    registry.addInterceptor(new CacheAnnotationInterceptor());
-  }
-
-  @Bean
-  public ShallowEtagHeaderFilter shallowEtagHeaderFilter() {
-    return new ShallowEtagHeaderFilter();
+    registry.addInterceptor(new CacheAnnotationInterceptor(routes));
   }
 
 }
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.configuration;
+
+import com.google.common.base.Stopwatch;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.ErrorMessageQuery;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.FieldErrorQuery;
+import java.lang.reflect.Type;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Builds the Jackson serializers and deserializers of every controller body type at startup.
+ *
+ * <br><br>
+ * Application runners are called before the readiness state switches to accepting traffic, so
+ * the first requests after a rollout no longer pay for bean introspection and serializer
+ * construction. Types are resolved from the request mappings: return types, wrapped or not in a
+ * <code>ResponseEntity</code>, and <code>@RequestBody</code> parameters. Error bodies are always
+ * included.
+ */
+@Slf4j
+@NullMarked
+@RequiredArgsConstructor
+public class JacksonWarmUpRunner implements ApplicationRunner {
+
+  private final List<ObjectMapper> mappers;
+  private final List<RequestMappingHandlerMapping> handlerMappings;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    Set<Type> types = collectBodyTypes();
+
+    for (ObjectMapper mapper : mappers) {
+      for (Type type : types) {
+        warmUp(mapper, type);
+      }
+    }
+
+    log.info("Warmed up {} body types for {} mappers in {}", types.size(), mappers.size(),
+        stopwatch);
+  }
+
+  private Set<Type> collectBodyTypes() {
+    Set<Type> types = new LinkedHashSet<>();
+    types.add(ErrorMessageQuery.class);
+    types.add(FieldErrorQuery.class);
+
+    for (RequestMappingHandlerMapping handlerMapping : handlerMappings) {
+      for (HandlerMethod handlerMethod : handlerMapping.getHandlerMethods().values()) {
+        addBodyType(types, handlerMethod.getReturnType());
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+          if (parameter.hasParameterAnnotation(RequestBody.class)) {
+            addBodyType(types, parameter);
+          }
+        }
+      }
+    }
+    return types;
+  }
+
+  private static void addBodyType(Set<Type> types, MethodParameter parameter) {
+    ResolvableType type = ResolvableType.forMethodParameter(parameter);
+    if (HttpEntity.class.isAssignableFrom(type.toClass())) {
+      type = type.as(HttpEntity.class).getGeneric(0);
+    }
+
+    Class<?> rawType = type.resolve();
+    if (rawType != null && !rawType.isPrimitive() && rawType != Object.class
+        && rawType != String.class) {
+      types.add(type.getType());
+    }
+  }
+
+  private static void warmUp(ObjectMapper mapper, Type type) {
+    try {
+      JavaType javaType = mapper.constructType(type);
+      // Writers and readers created for a type prefetch and cache their root (de)serializer
+      mapper.writerFor(javaType);
+      mapper.readerFor(javaType);
+    } catch (RuntimeException e) {
+      log.debug("Could not warm up {} for {}", mapper.getClass().getSimpleName(), type, e);
+    }
+  }
+
+}
@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2025 Hi!T Consulting
+ * Copyright (c) 2026 Hi!T Consulting
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,30 +25,517 @@
 
 package fr.hiitconsulting.socle.infrastructure.configuration;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.hiitconsulting.socle.domain.shared.event.DomainEventConsumer;
+import fr.hiitconsulting.socle.domain.shared.event.DomainEventPublisher;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.BatchController;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.CorrelationIdFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.CursorPageResponseBodyAdvice;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.DeadlineFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.EtagFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.FileDownloadRequestMatcher;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.IdempotencyFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.MsCommonEndpoint;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RateLimitFilter;
 import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RequestLoggingFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RestResponseExceptionHandler;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RoutesEndpoint;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.SingleFlightFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.SparseFieldsetModule;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.SparseFieldsetResponseBodyAdvice;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.StatisticsFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.StreamingBodyArgumentResolver;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.TrainingRunController;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.TypedIdModule;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.out.ConnectionLimitInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.out.CorrelationIdInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.out.DeadlineInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.out.HedgingInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.cache.LocalCachesCustomizer;
+import fr.hiitconsulting.socle.infrastructure.common.cache.NamedCacheLoader;
+import fr.hiitconsulting.socle.infrastructure.common.event.DomainEventBus;
+import fr.hiitconsulting.socle.infrastructure.common.idempotency.IdempotencyStore;
+import fr.hiitconsulting.socle.infrastructure.common.idempotency.InMemoryIdempotencyStore;
+import fr.hiitconsulting.socle.infrastructure.common.route.RouteRegistry;
+import fr.hiitconsulting.socle.infrastructure.common.statistics.HotPathStatistics;
+import jakarta.servlet.Filter;
+import jakarta.validation.Validator;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NullMarked;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingFilterBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.cache.autoconfigure.CacheManagerCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.boot.jackson.autoconfigure.CborMapperBuilderCustomizer;
+import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import org.springframework.boot.restclient.RestClientCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
-import org.springframework.web.filter.AbstractRequestLoggingFilter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
 
+/**
+ * Entry point of ms-common.
+ *
+ * <br><br>
+ * Every feature is declared explicitly and can be switched off with its
+ * <code>app.&lt;feature&gt;.enabled</code> property, see {@link AppProperties}.
+ */
 @Slf4j
 @NullMarked
-@ComponentScan("fr.hiitconsulting.socle.infrastructure")
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(AppProperties.class)
+@ImportRuntimeHints(MsCommonRuntimeHints.class)
 public class MsCommonAutoConfiguration {
 
   @Bean
-  CacheConfiguration cacheConfiguration() {
-    return new CacheConfiguration();
+  RouteRegistry routeRegistry(AppProperties appProperties) {
+    return new RouteRegistry(appProperties);
+  }
+
+  @Bean
+  @ConditionalOnAvailableEndpoint(RoutesEndpoint.class)
+  RoutesEndpoint routesEndpoint(RouteRegistry routeRegistry, Validator validator) {
+    return new RoutesEndpoint(routeRegistry, validator);
   }
 
   @Bean
-  AbstractRequestLoggingFilter logFilter(AppProperties appProperties) {
+  @ConditionalOnBooleanProperty(name = "app.request-logging.enabled", matchIfMissing = true)
+  RequestLoggingFilter logFilter(AppProperties appProperties, RouteRegistry routeRegistry) {
     log.info("Initializing request logger");
-    RequestLoggingFilter filter = new RequestLoggingFilter(appProperties);
+    RequestLoggingFilter filter = new RequestLoggingFilter(appProperties, routeRegistry);
     filter.setIncludeQueryString(true);
 
     return filter;
   }
 
+  @Bean
+  @ConditionalOnBooleanProperty(name = "app.request-logging.enabled", matchIfMissing = true)
+  RequestEventConfiguration requestEventConfiguration() {
+    return new RequestEventConfiguration();
+  }
+
+  @Bean
+  @ConditionalOnBooleanProperty(name = "app.correlation.enabled", matchIfMissing = true)
+  CorrelationIdFilter correlationIdFilter() {
+    return new CorrelationIdFilter();
+  }
+
+  @Bean
+  @ConditionalOnBooleanProperty(name = "app.correlation.enabled", matchIfMissing = true)
+  CorrelationIdInterceptor correlationIdInterceptor() {
+    return new CorrelationIdInterceptor();
+  }
+
+  @Bean
+  @ConditionalOnBooleanProperty(name = "app.deadline.enabled", matchIfMissing = true)
+  DeadlineFilter deadlineFilter(AppProperties appProperties,
+      @Qualifier("handlerExceptionResolver")
+      ObjectProvider<HandlerExceptionResolver> exceptionResolver) {
+    return new DeadlineFilter(appProperties.getDeadline(), exceptionResolver);
+  }
+
+  @Bean
+  @ConditionalOnBooleanProperty(name = "app.deadline.enabled", matchIfMissing = true)
+  DeadlineInterceptor deadlineInterceptor(AppProperties appProperties) {
+    return new DeadlineInterceptor(appProperties.getDeadline().getHeader());
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnBooleanProperty(name = "app.idempotency.enabled")
+  IdempotencyStore idempotencyStore(AppProperties appProperties) {
+    AppProperties.Idempotency idempotency = appProperties.getIdempotency();
+    return new InMemoryIdempotencyStore(idempotency.getMaximumSize(),
+        idempotency.getTimeToLive());
+  }
+
+  @Bean
+  @ConditionalOnBooleanProperty(name = "app.idempotency.enabled")
+  IdempotencyFilter idempotencyFilter(AppProperties appProperties, IdempotencyStore store,
+      @Qualifier("handlerExceptionResolver")
+      ObjectProvider<HandlerExceptionResolver> exceptionResolver,
+      ObjectProvider<FileDownloadRequestMatcher> downloads) {
+    AppProperties.Idempotency idempotency = appProperties.getIdempotency();
+    return new IdempotencyFilter(store, idempotency.getWaitTimeout(),
+        idempotency.getMaximumBodySize().toBytes(), exceptionResolver,
+        downloads.getIfAvailable());
+  }
+
+  @Bean
+  @ConditionalOnBooleanProperty(name = "app.single-flight.enabled", matchIfMissing = true)
+  SingleFlightFilter singleFlightFilter(AppProperties appProperties,
+      @Qualifier("requestMappingHandlerMapping")
+      ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+    return new SingleFlightFilter(handlerMapping,
+        appProperties.getSingleFlight().getWaitTimeout());
+  }
+
+  @Bean
+  @ConditionalOnBooleanProperty(name = "app.cache-control.enabled", matchIfMissing = true)
+  CacheConfiguration cacheConfiguration(RouteRegistry routeRegistry) {
+    return new CacheConfiguration(routeRegistry);
+  }
+
+  @Bean
+  @ConditionalOnMissingFilterBean(ShallowEtagHeaderFilter.class)
+  @ConditionalOnBooleanProperty(name = "app.etag.enabled", matchIfMissing = true)
+  ShallowEtagHeaderFilter shallowEtagHeaderFilter(ObjectProvider<HotPathStatistics> statistics,
+      ObjectProvider<FileDownloadRequestMatcher> downloads, RouteRegistry routeRegistry) {
+    return new EtagFilter(statistics.getIfAvailable(), downloads.getIfAvailable(),
+        routeRegistry);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnBooleanProperty(name = "app.exception-handler.enabled", matchIfMissing = true)
+  RestResponseExceptionHandler restResponseExceptionHandler() {
+    return new RestResponseExceptionHandler();
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnBooleanProperty(name = "app.sparse-fieldsets.enabled", matchIfMissing = true)
+  static class SparseFieldsetAutoConfiguration {
+
+    @Bean
+    JacksonModule sparseFieldsetModule() {
+      return new SparseFieldsetModule();
+    }
+
+    @Bean
+    JsonMapperBuilderCustomizer sparseFieldsetJsonMapperCustomizer() {
+      return builder -> builder.filterProvider(defaultFilterProvider());
+    }
+
+    @Bean
+    SparseFieldsetConfiguration sparseFieldsetConfiguration(JsonMapper jsonMapper) {
+      return new SparseFieldsetConfiguration(jsonMapper);
+    }
+
+    @Bean
+    SparseFieldsetResponseBodyAdvice sparseFieldsetResponseBodyAdvice() {
+      return new SparseFieldsetResponseBodyAdvice();
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnBooleanProperty(name = "app.cursor-pagination.enabled", matchIfMissing = true)
+  static class CursorPaginationAutoConfiguration {
+
+    @Bean
+    CursorPaginationConfiguration cursorPaginationConfiguration() {
+      return new CursorPaginationConfiguration();
+    }
+
+    @Bean
+    CursorPageResponseBodyAdvice cursorPageResponseBodyAdvice() {
+      return new CursorPageResponseBodyAdvice();
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnBooleanProperty(name = "app.streaming-body.enabled", matchIfMissing = true)
+  static class StreamingBodyAutoConfiguration {
+
+    @Bean
+    StreamingBodyArgumentResolver streamingBodyArgumentResolver(AppProperties appProperties,
+        JsonMapper jsonMapper) {
+      return new StreamingBodyArgumentResolver(jsonMapper, appProperties.getStreamingBody());
+    }
+
+    @Bean
+    StreamingBodyConfiguration streamingBodyConfiguration(
+        StreamingBodyArgumentResolver streamingBodyArgumentResolver) {
+      return new StreamingBodyConfiguration(streamingBodyArgumentResolver);
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnBooleanProperty(name = "app.file-download.enabled", matchIfMissing = true)
+  static class FileDownloadAutoConfiguration {
+
+    @Bean
+    static FileDownloadConfiguration fileDownloadConfiguration() {
+      return new FileDownloadConfiguration();
+    }
+
+    @Bean
+    FileDownloadRequestMatcher fileDownloadRequestMatcher(
+        @Qualifier("requestMappingHandlerMapping")
+        ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+      return new FileDownloadRequestMatcher(handlerMapping);
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnBooleanProperty(name = "app.typed-ids.enabled", matchIfMissing = true)
+  static class TypedIdAutoConfiguration {
+
+    @Bean
+    JacksonModule typedIdModule() {
+      return new TypedIdModule();
+    }
+
+    @Bean
+    TypedIdConfiguration typedIdConfiguration() {
+      return new TypedIdConfiguration();
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass({CBORMapper.class, SmileMapper.class})
+  @ConditionalOnBooleanProperty(name = "app.binary-codecs.enabled", matchIfMissing = true)
+  static class BinaryCodecsAutoConfiguration {
+
+    @Bean
+    CborMapperBuilderCustomizer sparseFieldsetCborMapperCustomizer() {
+      return builder -> builder.filterProvider(defaultFilterProvider());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    SmileMapper smileMapper(ObjectProvider<JacksonModule> modules) {
+      return SmileMapper.builder()
+          .addModules(modules.orderedStream().toList())
+          .filterProvider(defaultFilterProvider())
+          .build();
+    }
+
+    @Bean
+    ServerHttpMessageConvertersCustomizer binaryMessageConvertersCustomizer(
+        CBORMapper cborMapper, SmileMapper smileMapper) {
+      log.info("Registering CBOR and Smile message converters");
+      return builder -> builder
+          .withCborConverter(new JacksonCborHttpMessageConverter(cborMapper))
+          .withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper));
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class JacksonTuningAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBooleanProperty(name = "app.jackson.blackbird", matchIfMissing = true)
+    JacksonModule blackbirdModule() {
+      return new BlackbirdModule();
+    }
+
+    @Bean
+    JsonMapperBuilderCustomizer tunedJsonMapperCustomizer() {
+      // Spring flushes the generator once the body is written, no need to flush per value
+      return builder -> builder.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Bean
+    @ConditionalOnBooleanProperty(name = "app.jackson.warm-up", matchIfMissing = true)
+    JacksonWarmUpRunner jacksonWarmUpRunner(ObjectProvider<ObjectMapper> mappers,
+        ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+      return new JacksonWarmUpRunner(mappers.orderedStream().toList(),
+          handlerMappings.orderedStream().toList());
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass({Caffeine.class, CaffeineCacheManager.class,
+      CacheManagerCustomizer.class})
+  @ConditionalOnBooleanProperty(name = "app.caches.enabled", matchIfMissing = true)
+  static class LocalCachesAutoConfiguration {
+
+    @Bean
+    LocalCachesCustomizer localCachesCustomizer(AppProperties appProperties,
+        ObjectProvider<NamedCacheLoader> loaders) {
+      return new LocalCachesCustomizer(appProperties, loaders.orderedStream().toList());
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass({RestClient.class, RestClientCustomizer.class})
+  @ConditionalOnBooleanProperty(name = "app.http-client.enabled", matchIfMissing = true)
+  static class HttpClientAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    HttpClient httpClient(AppProperties appProperties) {
+      AppProperties.HttpClient properties = appProperties.getHttpClient();
+      return HttpClient.newBuilder()
+          .version(properties.getVersion())
+          .connectTimeout(properties.getConnectTimeout())
+          .build();
+    }
+
+    @Bean
+    ConnectionLimitInterceptor connectionLimitInterceptor(AppProperties appProperties) {
+      AppProperties.HttpClient properties = appProperties.getHttpClient();
+      return new ConnectionLimitInterceptor(properties.getMaxConnectionsPerHost(),
+          properties.getAcquireTimeout());
+    }
+
+    @Bean
+    @ConditionalOnBooleanProperty(name = "app.http-client.hedging.enabled")
+    HedgingInterceptor hedgingInterceptor(AppProperties appProperties, HttpClient httpClient,
+        ConnectionLimitInterceptor connectionLimitInterceptor) {
+      // hedged copies skip the rest of the chain, they only go through the connection limit
+      return new HedgingInterceptor(appProperties.getHttpClient().getHedging().getMinimumDelay(),
+          new InterceptingClientHttpRequestFactory(requestFactory(appProperties, httpClient),
+              List.of(connectionLimitInterceptor)));
+    }
+
+    /**
+     * Completes the <code>RestClient.Builder</code> of Spring Boot, keeping its message
+     * converters and customizers.
+     */
+    @Bean
+    RestClientCustomizer msCommonRestClientCustomizer(AppProperties appProperties,
+        HttpClient httpClient,
+        ObjectProvider<CorrelationIdInterceptor> correlationIdInterceptor,
+        ObjectProvider<DeadlineInterceptor> deadlineInterceptor,
+        ObjectProvider<HedgingInterceptor> hedgingInterceptor,
+        ConnectionLimitInterceptor connectionLimitInterceptor) {
+      return builder -> {
+        if (appProperties.getHttpClient().isSharedClient()) {
+          builder.requestFactory(requestFactory(appProperties, httpClient));
+        }
+        builder.requestInterceptors(interceptors -> {
+          // hedged requests run on other threads, the trace and deadline must be set before
+          correlationIdInterceptor.ifAvailable(interceptors::add);
+          deadlineInterceptor.ifAvailable(interceptors::add);
+          hedgingInterceptor.ifAvailable(interceptors::add);
+          interceptors.add(connectionLimitInterceptor);
+        });
+      };
+    }
+
+    private static JdkClientHttpRequestFactory requestFactory(AppProperties appProperties,
+        HttpClient httpClient) {
+      JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+      requestFactory.setReadTimeout(appProperties.getHttpClient().getReadTimeout());
+      return requestFactory;
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(Caffeine.class)
+  @ConditionalOnBooleanProperty(name = "app.rate-limit.enabled")
+  static class RateLimitAutoConfiguration {
+
+    @Bean
+    RateLimitFilter rateLimitFilter(AppProperties appProperties,
+        @Qualifier("handlerExceptionResolver")
+        ObjectProvider<HandlerExceptionResolver> exceptionResolver) {
+      return new RateLimitFilter(appProperties.getRateLimit(), exceptionResolver);
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnBooleanProperty(name = "app.events.enabled", matchIfMissing = true)
+  static class DomainEventsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(DomainEventPublisher.class)
+    DomainEventBus domainEventBus(AppProperties appProperties,
+        ObjectProvider<DomainEventConsumer<?>> consumers) {
+      return new DomainEventBus(consumers.orderedStream().toList(), appProperties.getEvents());
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnBooleanProperty(name = "app.batch.enabled")
+  static class BatchAutoConfiguration {
+
+    @Bean
+    BatchController batchController(AppProperties appProperties,
+        ObjectProvider<DispatcherServlet> dispatcherServlet, JsonMapper jsonMapper,
+        @Qualifier("springSecurityFilterChain") ObjectProvider<Filter> securityFilterChain,
+        ObjectProvider<RateLimitFilter> rateLimitFilter) {
+      List<Filter> filters = new ArrayList<>();
+      securityFilterChain.ifAvailable(filters::add);
+      rateLimitFilter.ifAvailable(filters::add);
+      return new BatchController(dispatcherServlet, jsonMapper,
+          appProperties.getBatch().getMaxRequests(), List.copyOf(filters));
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnAvailableEndpoint(MsCommonEndpoint.class)
+  static class StatisticsAutoConfiguration {
+
+    @Bean
+    HotPathStatistics hotPathStatistics() {
+      return new HotPathStatistics();
+    }
+
+    @Bean
+    StatisticsFilter statisticsFilter(HotPathStatistics statistics) {
+      return new StatisticsFilter(statistics);
+    }
+
+    @Bean
+    MsCommonEndpoint msCommonEndpoint(HotPathStatistics statistics) {
+      return new MsCommonEndpoint(statistics);
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnBooleanProperty(name = "app.training-run.enabled")
+  static class TrainingRunAutoConfiguration {
+
+    @Bean
+    TrainingRunController trainingRunController() {
+      return new TrainingRunController();
+    }
+
+    @Bean
+    TrainingRunner trainingRunner(AppProperties appProperties) {
+      return new TrainingRunner(appProperties.getTrainingRun());
+    }
+
+  }
+
+  private static FilterProvider defaultFilterProvider() {
+    return new SimpleFilterProvider().setFailOnUnknownId(false);
+  }
+
 }
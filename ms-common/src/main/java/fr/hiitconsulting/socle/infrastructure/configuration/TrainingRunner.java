@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.infrastructure.configuration;
+
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+
+import com.google.common.base.Stopwatch;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.TrainingRunController;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+
+/**
+ * Training run for the JVM AOT cache (or a CDS archive).
+ *
+ * <br><br>
+ * Once the application is ready, synthetic requests are sent to the embedded server so that the
+ * filters, the interceptors, the exception handler, the validation and the message converters
+ * are loaded, linked and profiled. The application then exits, letting the JVM dump its cache.
+ */
+@Slf4j
+@NullMarked
+@RequiredArgsConstructor
+public class TrainingRunner implements ApplicationListener<ApplicationReadyEvent> {
+
+  private static final String INVALID_BODY = "{\"id\":\"\",\"quantity\":-1}";
+  private static final String VALID_BODY =
+      "{\"id\":\"1\",\"name\":\"Resource\",\"quantity\":1,\"tags\":[\"training\"]}";
+
+  private final AppProperties.TrainingRun trainingRun;
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    ConfigurableApplicationContext context = event.getApplicationContext();
+    if (!(context instanceof WebServerApplicationContext webContext)) {
+      return;
+    }
+
+    URI baseUri = URI.create("http://localhost:" + webContext.getWebServer().getPort());
+    log.info("Starting training run with {} iterations", trainingRun.getIterations());
+    Stopwatch stopwatch = Stopwatch.createStarted();
+
+    try {
+      long serverErrors = run(baseUri).stream().filter(status -> status >= 500).count();
+      log.info("Training run completed in {} with {} server errors, exiting", stopwatch,
+          serverErrors);
+    } catch (IOException e) {
+      log.warn("Training run interrupted", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    System.exit(SpringApplication.exit(context));
+  }
+
+  /**
+   * Sends the synthetic requests of every iteration to the server.
+   *
+   * @return the status of each response, in the order the requests were sent
+   */
+  public List<Integer> run(URI baseUri) throws IOException, InterruptedException {
+    List<Integer> statuses = new ArrayList<>();
+    try (HttpClient client = HttpClient.newHttpClient()) {
+      for (int i = 0; i < trainingRun.getIterations(); i++) {
+        train(client, baseUri, i, statuses);
+      }
+    }
+    return statuses;
+  }
+
+  private void train(HttpClient client, URI baseUri, int iteration, List<Integer> statuses)
+      throws IOException, InterruptedException {
+    URI resource = baseUri.resolve(TrainingRunController.PATH + "/" + iteration);
+
+    Optional<String> etag = send(client, get(resource).build(), statuses).headers()
+        .firstValue(ETAG);
+    if (etag.isPresent()) {
+      send(client, get(resource).header(IF_NONE_MATCH, etag.get()).build(), statuses);
+    }
+
+    send(client, get(URI.create(resource + "?fields=id,name")).build(), statuses);
+    send(client, get(resource).setHeader(ACCEPT, MediaType.APPLICATION_CBOR_VALUE).build(),
+        statuses);
+    send(client, get(baseUri.resolve(TrainingRunController.PATH + "/"
+        + TrainingRunController.UNKNOWN_ID)).build(), statuses);
+    send(client, post(baseUri.resolve(TrainingRunController.PATH), VALID_BODY), statuses);
+    send(client, post(baseUri.resolve(TrainingRunController.PATH), INVALID_BODY), statuses);
+
+    for (String path : trainingRun.getPaths()) {
+      send(client, get(baseUri.resolve(path)).build(), statuses);
+    }
+  }
+
+  private static HttpRequest.Builder get(URI uri) {
+    return HttpRequest.newBuilder(uri).header(ACCEPT, MediaType.APPLICATION_JSON_VALUE).GET();
+  }
+
+  private static HttpRequest post(URI uri, String body) {
+    return HttpRequest.newBuilder(uri)
+        .header(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .POST(BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private static HttpResponse<byte[]> send(HttpClient client, HttpRequest request,
+      List<Integer> statuses) throws IOException, InterruptedException {
+    HttpResponse<byte[]> response = client.send(request, BodyHandlers.ofByteArray());
+    statuses.add(response.statusCode());
+    return response;
+  }
+
+}
@@ -0,0 +1,280 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import fr.hiitconsulting.socle.domain.shared.exception.AbstractNotFoundException;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.BatchController;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RestResponseExceptionHandler;
+import fr.hiitconsulting.socle.infrastructure.common.deadline.Deadline;
+import fr.hiitconsulting.socle.infrastructure.common.deadline.DeadlineHolder;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+public class BatchControllerTest {
+
+  private static final AtomicInteger filtered = new AtomicInteger();
+
+  private static final String API_KEY_ATTRIBUTE = "app.rate-limit.api-key";
+
+  private static final String TRUNCATED = "{\"id\":";
+
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+  private DispatcherServlet servlet;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+    context.setServletContext(new MockServletContext());
+    context.register(WebConfiguration.class);
+    servlet = new DispatcherServlet(context);
+    context.addBeanFactoryPostProcessor(beanFactory ->
+        beanFactory.registerSingleton("dispatcherServlet", servlet));
+    servlet.init(new MockServletConfig());
+  }
+
+  @Test
+  public void shouldReturnResponseOfEachSubRequest() throws Exception {
+    JsonNode responses = batch("""
+        [
+          {"path": "/items/1?label=first"},
+          {"path": "/items/unknown"},
+          {"path": "/language"},
+          {"path": "/language", "headers": {"Accept-Language": "en"}},
+          {"path": "/missing"},
+          {"path": "/batch"}
+        ]""");
+
+    assertThat(responses).hasSize(6);
+    assertThat(responses.get(0).get("status").asInt()).isEqualTo(200);
+    assertThat(responses.get(0).get("body").get("label").asString()).isEqualTo("first");
+    assertThat(responses.get(0).get("headers").get("Content-Type").get(0).asString())
+        .startsWith(MediaType.APPLICATION_JSON_VALUE);
+    assertThat(responses.get(1).get("status").asInt()).isEqualTo(404);
+    assertThat(responses.get(1).get("body").get("message").asString()).contains("unknown");
+    assertThat(responses.get(2).get("body").asString()).isEqualTo("fr");
+    assertThat(responses.get(3).get("body").asString()).isEqualTo("en");
+    assertThat(responses.get(4).get("status").asInt()).isEqualTo(404);
+    assertThat(responses.get(4).get("body").get("message").asString()).isEqualTo("Not Found");
+    assertThat(responses.get(5).get("status").asInt()).isEqualTo(400);
+  }
+
+  @Test
+  public void shouldRunSubRequestsInParallel() throws Exception {
+    JsonNode responses = batch("""
+        [{"path": "/rendezvous"}, {"path": "/rendezvous"}]""");
+
+    assertThat(responses.get(0).get("body").asString()).isEqualTo("together");
+    assertThat(responses.get(1).get("body").asString()).isEqualTo("together");
+  }
+
+  @Test
+  public void shouldApplyFiltersToEachSubRequest() throws Exception {
+    filtered.set(0);
+
+    JsonNode responses = batch("""
+        [{"path": "/admin/items"}, {"path": "/language"}]""");
+
+    assertThat(responses.get(0).get("status").asInt()).isEqualTo(403);
+    assertThat(responses.get(1).get("status").asInt()).isEqualTo(200);
+    assertThat(filtered).hasValue(2);
+  }
+
+  @Test
+  public void shouldReturnUnreadableBodyAsBinary() throws Exception {
+    JsonNode responses = batch("""
+        [{"path": "/truncated"}, {"path": "/language"}]""");
+
+    assertThat(responses.get(0).get("status").asInt()).isEqualTo(200);
+    assertThat(Base64.getDecoder().decode(responses.get(0).get("body").asString()))
+        .isEqualTo(TRUNCATED.getBytes(StandardCharsets.UTF_8));
+    assertThat(responses.get(1).get("body").asString()).isEqualTo("fr");
+  }
+
+  @Test
+  public void shouldReadAttributesOfTheBatchRequest() throws Exception {
+    JsonNode responses = batch("""
+        [{"path": "/api-key"}]""");
+
+    assertThat(responses.get(0).get("body").asString()).isEqualTo("key-1");
+  }
+
+  @Test
+  public void shouldShareDeadlineWithSubRequests() throws Exception {
+    MockHttpServletResponse response = DeadlineHolder.call(Deadline.after(Duration.ofSeconds(5)),
+        () -> post("""
+            [{"path": "/deadline"}]"""));
+
+    assertThat(jsonMapper.readTree(response.getContentAsString()).get(0).get("body").asString())
+        .isEqualTo("bound, attribute");
+  }
+
+  @Test
+  public void shouldRejectTooLargeBatch() throws Exception {
+    MockHttpServletResponse response = post(
+        "[" + String.join(",", Collections.nCopies(7, "{\"path\": \"/language\"}")) + "]");
+
+    assertThat(response.getStatus()).isEqualTo(400);
+    assertThat(response.getContentAsString()).contains("more than 6 requests");
+  }
+
+  private JsonNode batch(String body) throws Exception {
+    MockHttpServletResponse response = post(body);
+    assertThat(response.getStatus()).isEqualTo(200);
+    return jsonMapper.readTree(response.getContentAsString());
+  }
+
+  private MockHttpServletResponse post(String body) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", BatchController.PATH);
+    request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    request.addHeader("Accept-Language", "fr");
+    request.setAttribute(API_KEY_ATTRIBUTE, "key-1");
+    request.setContent(body.getBytes());
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    servlet.service(request, response);
+    return response;
+  }
+
+  @Configuration
+  @EnableWebMvc
+  static class WebConfiguration {
+
+    @Bean
+    BatchController batchController(ObjectProvider<DispatcherServlet> dispatcherServlet) {
+      return new BatchController(dispatcherServlet, JsonMapper.builder().build(), 6,
+          List.of(authorizationFilter()));
+    }
+
+    /**
+     * Stands for the Spring Security filter chain, denying the admin paths.
+     */
+    @Bean
+    Filter authorizationFilter() {
+      return (request, response, chain) -> {
+        filtered.incrementAndGet();
+        if (((HttpServletRequest) request).getRequestURI().startsWith("/admin")) {
+          ((HttpServletResponse) response).sendError(HttpServletResponse.SC_FORBIDDEN);
+          return;
+        }
+        chain.doFilter(request, response);
+      };
+    }
+
+    @Bean
+    Controller controller() {
+      return new Controller();
+    }
+
+    @Bean
+    RestResponseExceptionHandler restResponseExceptionHandler() {
+      return new RestResponseExceptionHandler();
+    }
+
+  }
+
+  @RestController
+  static class Controller {
+
+    private final CountDownLatch rendezvous = new CountDownLatch(2);
+
+    @GetMapping("/items/{id}")
+    Item item(@PathVariable String id, @RequestParam(required = false) String label)
+        throws AbstractNotFoundException {
+      if ("unknown".equals(id)) {
+        throw new AbstractNotFoundException("Item", id);
+      }
+      return new Item(id, label);
+    }
+
+    @GetMapping(path = "/language", produces = MediaType.TEXT_PLAIN_VALUE)
+    String language(@RequestHeader("Accept-Language") String language) {
+      return language;
+    }
+
+    @GetMapping(path = "/admin/items", produces = MediaType.TEXT_PLAIN_VALUE)
+    String adminItems() {
+      return "admin";
+    }
+
+    @GetMapping(path = "/api-key", produces = MediaType.TEXT_PLAIN_VALUE)
+    String apiKey(HttpServletRequest request) {
+      return String.valueOf(request.getAttribute(API_KEY_ATTRIBUTE));
+    }
+
+    @GetMapping(path = "/truncated", produces = MediaType.APPLICATION_JSON_VALUE)
+    String truncated() {
+      return TRUNCATED;
+    }
+
+    @GetMapping(path = "/deadline", produces = MediaType.TEXT_PLAIN_VALUE)
+    String deadline(HttpServletRequest request) {
+      return (DeadlineHolder.current() == null ? "unbound" : "bound") + ", "
+          + (request.getAttribute(Deadline.ATTRIBUTE) == null ? "no attribute" : "attribute");
+    }
+
+    @GetMapping(path = "/rendezvous", produces = MediaType.TEXT_PLAIN_VALUE)
+    String rendezvous() throws InterruptedException {
+      rendezvous.countDown();
+      return rendezvous.await(5, TimeUnit.SECONDS) ? "together" : "alone";
+    }
+
+  }
+
+  record Item(String id, String label) {
+  }
+
+}
@@ -147,4 +147,59 @@ public class CacheAnnotationInterceptorTest {
 
     verify(response, never()).setHeader(eq(CACHE_CONTROL), anyString());
   }
+
+  @Test
+  public void shouldSetNoStoreAloneWhenAnnotationSpecifies() {
+    when(handlerMethod.getMethodAnnotation(CacheControl.class))
+        .thenReturn(cacheControl(3600, false, true));
+
+    interceptor.preHandle(request, response, handlerMethod);
+
+    verify(response).setHeader(CACHE_CONTROL, "no-store");
+  }
+
+  @Test
+  public void shouldNotSetHeaderWhenAnnotationSetsNoDirective() {
+    when(handlerMethod.getMethodAnnotation(CacheControl.class))
+        .thenReturn(cacheControl(0, false, false));
+
+    interceptor.preHandle(request, response, handlerMethod);
+
+    verify(response, never()).setHeader(eq(CACHE_CONTROL), anyString());
+  }
+
+  private static CacheControl cacheControl(long maxAge, boolean noCache, boolean noStore) {
+    return new CacheControl() {
+      @Override
+      public Class<? extends Annotation> annotationType() {
+        return CacheControl.class;
+      }
+
+      @Override
+      public long maxAge() {
+        return maxAge;
+      }
+
+      @Override
+      public boolean noCache() {
+        return noCache;
+      }
+
+      @Override
+      public boolean noStore() {
+        return noStore;
+      }
+
+      @Override
+      public long staleWhileRevalidate() {
+        return 0;
+      }
+
+      @Override
+      public boolean privateCache() {
+        return false;
+      }
+
+    };
+  }
 }
\ No newline at end of file
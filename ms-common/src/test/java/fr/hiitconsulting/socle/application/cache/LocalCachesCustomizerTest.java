@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import fr.hiitconsulting.socle.infrastructure.common.cache.LocalCachesCustomizer;
+import fr.hiitconsulting.socle.infrastructure.common.cache.NamedCacheLoader;
+import fr.hiitconsulting.socle.infrastructure.common.cache.Weighted;
+import fr.hiitconsulting.socle.infrastructure.configuration.MsCommonAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.cache.autoconfigure.CacheAutoConfiguration;
+import org.springframework.boot.cache.autoconfigure.metrics.CacheMetricsAutoConfiguration;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.boot.micrometer.metrics.autoconfigure.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.micrometer.metrics.autoconfigure.MetricsAutoConfiguration;
+import org.springframework.boot.micrometer.metrics.autoconfigure.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@ExtendWith(OutputCaptureExtension.class)
+public class LocalCachesCustomizerTest {
+
+  private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+          MsCommonAutoConfiguration.class,
+          CacheAutoConfiguration.class, MetricsAutoConfiguration.class,
+          CompositeMeterRegistryAutoConfiguration.class,
+          SimpleMetricsExportAutoConfiguration.class, CacheMetricsAutoConfiguration.class))
+      .withUserConfiguration(CachingConfiguration.class);
+
+  @Test
+  public void shouldEvictEntriesByWeight() {
+    contextRunner
+        .withPropertyValues("app.caches.specs.products.maximum-weight=10",
+            "app.caches.specs.products.time-to-live=10m")
+        .run(context -> {
+          Cache<Object, Object> cache = nativeCache(context.getBean(CacheManager.class),
+              "products");
+          cache.put("small", "value");
+          cache.put("large", (Weighted) () -> 20);
+          cache.cleanUp();
+
+          assertThat(cache.policy().eviction().orElseThrow().getMaximum()).isEqualTo(10);
+          assertThat(cache.policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+              .isEqualTo(Duration.ofMinutes(10));
+          assertThat(cache.getIfPresent("large")).isNull();
+          assertThat(cache.getIfPresent("small")).isEqualTo("value");
+        });
+  }
+
+  @Test
+  public void shouldExportCacheMetrics() {
+    contextRunner
+        .withPropertyValues("app.caches.specs.products.maximum-weight=10")
+        .run(context -> {
+          org.springframework.cache.Cache cache = context.getBean(CacheManager.class)
+              .getCache("products");
+          cache.get("missing");
+          cache.put("present", "value");
+          cache.get("present");
+
+          MeterRegistry registry = context.getBean(MeterRegistry.class);
+          assertThat(registry.get("cache.gets").tags("cache", "products", "result", "hit")
+              .functionCounter().count()).isEqualTo(1);
+          assertThat(registry.get("cache.gets").tags("cache", "products", "result", "miss")
+              .functionCounter().count()).isEqualTo(1);
+          assertThat(registry.find("cache.evictions").tags("cache", "products").meter())
+              .isNotNull();
+        });
+  }
+
+  @Test
+  public void shouldRefreshWithNamedCacheLoader() {
+    contextRunner
+        .withUserConfiguration(LoaderConfiguration.class)
+        .withPropertyValues("app.caches.specs.rates.refresh-after-write=1m")
+        .run(context -> {
+          Cache<Object, Object> cache = nativeCache(context.getBean(CacheManager.class), "rates");
+
+          assertThat(cache.policy().refreshAfterWrite()).isPresent();
+          assertThat(context.getBean(CacheManager.class).getCache("rates").get("EUR").get())
+              .isEqualTo("EUR-1");
+        });
+  }
+
+  @Test
+  public void shouldFailWithoutLoaderForRefreshedCache() {
+    contextRunner
+        .withPropertyValues("app.caches.specs.rates.refresh-after-write=1m")
+        .run(context -> assertThat(context).hasFailed());
+  }
+
+  @Test
+  public void shouldSkipCachesWhenDisabled() {
+    contextRunner
+        .withPropertyValues("app.caches.enabled=false",
+            "app.caches.specs.rates.refresh-after-write=1m")
+        .run(context -> assertThat(context)
+            .hasNotFailed()
+            .doesNotHaveBean(LocalCachesCustomizer.class));
+  }
+
+  @Test
+  public void shouldWarnWhenCachingIsNotEnabled(CapturedOutput output) {
+    new WebApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+            MsCommonAutoConfiguration.class, CacheAutoConfiguration.class))
+        .withPropertyValues("app.caches.specs.products.maximum-weight=10")
+        .run(context -> assertThat(context)
+            .hasSingleBean(LocalCachesCustomizer.class)
+            .doesNotHaveBean(CacheManager.class));
+
+    assertThat(output).contains("is @EnableCaching missing?");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Cache<Object, Object> nativeCache(CacheManager cacheManager, String name) {
+    return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableCaching
+  static class CachingConfiguration {
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class LoaderConfiguration {
+
+    @Bean
+    NamedCacheLoader ratesLoader() {
+      AtomicInteger loads = new AtomicInteger();
+      return new NamedCacheLoader() {
+        @Override
+        public String cacheName() {
+          return "rates";
+        }
+
+        @Override
+        public Object load(Object key) {
+          return key + "-" + loads.incrementAndGet();
+        }
+      };
+    }
+
+  }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import fr.hiitconsulting.socle.domain.shared.exception.AbstractNotFoundException;
+import fr.hiitconsulting.socle.infrastructure.configuration.MsCommonAutoConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.http.converter.autoconfigure.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.webmvc.autoconfigure.WebMvcAutoConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+public class BinaryCodecsTest {
+
+  private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+  private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+  private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+          HttpMessageConvertersAutoConfiguration.class, WebMvcAutoConfiguration.class,
+          MsCommonAutoConfiguration.class))
+      .withUserConfiguration(Controller.class);
+
+  @Test
+  public void shouldNegotiateCborAndSmile() {
+    contextRunner.run(context -> {
+      MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+      byte[] cbor = mockMvc.perform(get("/items/1").accept(CBOR))
+          .andExpect(status().isOk())
+          .andExpect(content().contentTypeCompatibleWith(CBOR))
+          .andReturn().getResponse().getContentAsByteArray();
+      assertThat(context.getBean(CBORMapper.class).readTree(cbor).get("name").asString())
+          .isEqualTo("item 1");
+
+      byte[] smile = mockMvc.perform(get("/items/1").accept(SMILE))
+          .andExpect(status().isOk())
+          .andExpect(content().contentTypeCompatibleWith(SMILE))
+          .andReturn().getResponse().getContentAsByteArray();
+      assertThat(context.getBean(SmileMapper.class).readTree(smile).get("name").asString())
+          .isEqualTo("item 1");
+
+      mockMvc.perform(get("/items/1").header(HttpHeaders.ACCEPT, "text/html, */*"))
+          .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    });
+  }
+
+  @Test
+  public void shouldNegotiateCborErrorBodies() {
+    contextRunner.run(context -> {
+      MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+      byte[] cbor = mockMvc.perform(get("/items/0").accept(CBOR))
+          .andExpect(status().isNotFound())
+          .andExpect(content().contentTypeCompatibleWith(CBOR))
+          .andReturn().getResponse().getContentAsByteArray();
+      JsonNode error = context.getBean(CBORMapper.class).readTree(cbor);
+      assertThat(error.get("message").asString())
+          .isEqualTo("Item avec la référence 0 n'existe pas");
+    });
+  }
+
+  @RestController
+  static class Controller {
+
+    @GetMapping("/items/{id}")
+    Item item(@PathVariable int id) {
+      if (id == 0) {
+        throw new ItemNotFoundException(id);
+      }
+      return new Item("item " + id);
+    }
+
+  }
+
+  record Item(String name) {
+  }
+
+  private static class ItemNotFoundException extends AbstractNotFoundException {
+
+    ItemNotFoundException(int id) {
+      super("Item", String.valueOf(id));
+    }
+
+  }
+
+}
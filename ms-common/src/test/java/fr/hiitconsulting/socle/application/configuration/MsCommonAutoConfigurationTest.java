@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.BatchController;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.CorrelationIdFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.CursorPageResponseBodyAdvice;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.DeadlineFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.FileDownloadRequestMatcher;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.IdempotencyFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.MsCommonEndpoint;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RateLimitFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RestResponseExceptionHandler;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RoutesEndpoint;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.SingleFlightFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.StatisticsFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.StreamingBodyArgumentResolver;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.TypedIdModule;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.ErrorMessageQuery;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.out.CorrelationIdInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.out.DeadlineInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.out.HedgingInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.event.DomainEventBus;
+import fr.hiitconsulting.socle.infrastructure.common.idempotency.IdempotencyStore;
+import fr.hiitconsulting.socle.infrastructure.common.route.RouteRegistry;
+import fr.hiitconsulting.socle.infrastructure.common.statistics.HotPathStatistics;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import fr.hiitconsulting.socle.infrastructure.configuration.CacheConfiguration;
+import fr.hiitconsulting.socle.infrastructure.configuration.MsCommonAutoConfiguration;
+import fr.hiitconsulting.socle.infrastructure.configuration.MsCommonRuntimeHints;
+import fr.hiitconsulting.socle.infrastructure.configuration.RequestEventConfiguration;
+import java.net.http.HttpClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.boot.restclient.RestClientCustomizer;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.validation.autoconfigure.ValidationAutoConfiguration;
+import org.springframework.web.filter.AbstractRequestLoggingFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+public class MsCommonAutoConfigurationTest {
+
+  private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+          MsCommonAutoConfiguration.class));
+
+  @Test
+  public void shouldRegisterAllFeaturesByDefault() {
+    contextRunner.run(context -> assertThat(context)
+        .hasSingleBean(AppProperties.class)
+        .hasSingleBean(AbstractRequestLoggingFilter.class)
+        .hasSingleBean(CacheConfiguration.class)
+        .hasSingleBean(RequestEventConfiguration.class)
+        .hasSingleBean(ShallowEtagHeaderFilter.class)
+        .hasSingleBean(RestResponseExceptionHandler.class)
+        .hasSingleBean(SmileMapper.class)
+        .hasSingleBean(CorrelationIdFilter.class)
+        .hasSingleBean(CorrelationIdInterceptor.class)
+        .hasSingleBean(SingleFlightFilter.class)
+        .hasSingleBean(HttpClient.class)
+        .hasSingleBean(RestClientCustomizer.class)
+        .hasSingleBean(CursorPageResponseBodyAdvice.class)
+        .hasSingleBean(TypedIdModule.class)
+        .hasSingleBean(DomainEventBus.class)
+        .hasSingleBean(StreamingBodyArgumentResolver.class)
+        .hasSingleBean(DeadlineFilter.class)
+        .hasSingleBean(DeadlineInterceptor.class)
+        .hasSingleBean(FileDownloadRequestMatcher.class)
+        .hasSingleBean(RouteRegistry.class)
+        .doesNotHaveBean(HedgingInterceptor.class));
+  }
+
+  @Test
+  public void shouldSkipDisabledFeatures() {
+    contextRunner
+        .withPropertyValues("app.request-logging.enabled=false", "app.cache-control.enabled=false",
+            "app.etag.enabled=false", "app.exception-handler.enabled=false",
+            "app.binary-codecs.enabled=false", "app.correlation.enabled=false",
+            "app.single-flight.enabled=false",
+            "app.http-client.enabled=false", "app.cursor-pagination.enabled=false",
+            "app.typed-ids.enabled=false", "app.events.enabled=false",
+            "app.streaming-body.enabled=false", "app.deadline.enabled=false",
+            "app.file-download.enabled=false")
+        .run(context -> assertThat(context)
+            .doesNotHaveBean(AbstractRequestLoggingFilter.class)
+            .doesNotHaveBean(CacheConfiguration.class)
+            .doesNotHaveBean(RequestEventConfiguration.class)
+            .doesNotHaveBean(ShallowEtagHeaderFilter.class)
+            .doesNotHaveBean(RestResponseExceptionHandler.class)
+            .doesNotHaveBean(SmileMapper.class)
+            .doesNotHaveBean(CorrelationIdFilter.class)
+            .doesNotHaveBean(CorrelationIdInterceptor.class)
+            .doesNotHaveBean(RestClientCustomizer.class)
+            .doesNotHaveBean(CursorPageResponseBodyAdvice.class)
+            .doesNotHaveBean(TypedIdModule.class)
+            .doesNotHaveBean(DomainEventBus.class)
+            .doesNotHaveBean(StreamingBodyArgumentResolver.class)
+            .doesNotHaveBean(DeadlineFilter.class)
+            .doesNotHaveBean(DeadlineInterceptor.class)
+            .doesNotHaveBean(FileDownloadRequestMatcher.class)
+            .doesNotHaveBean(SingleFlightFilter.class));
+  }
+
+  @Test
+  public void shouldRegisterIdempotencyFilterOnlyWhenEnabled() {
+    contextRunner.run(context -> assertThat(context)
+        .doesNotHaveBean(IdempotencyFilter.class)
+        .doesNotHaveBean(IdempotencyStore.class));
+    contextRunner
+        .withPropertyValues("app.idempotency.enabled=true")
+        .run(context -> assertThat(context)
+            .hasSingleBean(IdempotencyFilter.class)
+            .hasSingleBean(IdempotencyStore.class));
+  }
+
+  @Test
+  public void shouldRegisterRateLimitFilterOnlyWhenEnabled() {
+    contextRunner.run(context -> assertThat(context).doesNotHaveBean(RateLimitFilter.class));
+    contextRunner
+        .withPropertyValues("app.rate-limit.enabled=true")
+        .run(context -> assertThat(context).hasSingleBean(RateLimitFilter.class));
+  }
+
+  @Test
+  public void shouldRegisterBatchEndpointOnlyWhenEnabled() {
+    contextRunner.run(context -> assertThat(context).doesNotHaveBean(BatchController.class));
+    contextRunner
+        .withPropertyValues("app.batch.enabled=true")
+        .run(context -> assertThat(context).hasSingleBean(BatchController.class));
+  }
+
+  @Test
+  public void shouldRecordRequestPhasesWithoutCacheControl() {
+    contextRunner
+        .withPropertyValues("app.cache-control.enabled=false")
+        .run(context -> assertThat(context)
+            .doesNotHaveBean(CacheConfiguration.class)
+            .hasSingleBean(RequestEventConfiguration.class));
+  }
+
+  @Test
+  public void shouldRegisterRoutesEndpointOnlyWhenExposed() {
+    contextRunner.run(context -> assertThat(context).doesNotHaveBean(RoutesEndpoint.class));
+    contextRunner
+        .withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+        .withPropertyValues("management.endpoints.web.exposure.include=routes",
+            "app.routes[0].pattern=/reports/**", "app.routes[0].etag=false")
+        .run(context -> assertThat(context.getBean(RoutesEndpoint.class).routes())
+            .containsOnlyKeys("* /reports/**"));
+  }
+
+  @Test
+  public void shouldRegisterStatisticsOnlyWhenEndpointIsExposed() {
+    contextRunner.run(context -> assertThat(context)
+        .doesNotHaveBean(HotPathStatistics.class)
+        .doesNotHaveBean(StatisticsFilter.class));
+    contextRunner
+        .withPropertyValues("management.endpoints.web.exposure.include=mscommon")
+        .run(context -> assertThat(context)
+            .hasSingleBean(HotPathStatistics.class)
+            .hasSingleBean(StatisticsFilter.class)
+            .hasSingleBean(MsCommonEndpoint.class));
+  }
+
+  @Test
+  public void shouldRegisterErrorBodiesReflectionHints() {
+    RuntimeHints hints = new RuntimeHints();
+    new MsCommonRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    assertThat(RuntimeHintsPredicates.reflection().onType(ErrorMessageQuery.class)).accepts(hints);
+  }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.DeadlineFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RequestLoggingFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RestResponseExceptionHandler;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.DeadlineExceededException;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.out.DeadlineInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.deadline.Deadline;
+import fr.hiitconsulting.socle.infrastructure.common.deadline.DeadlineHolder;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+public class DeadlineTest {
+
+  private static final String HEADER = "X-Request-Timeout";
+
+  private final Controller controller = new Controller();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final MockMvc mockMvc;
+
+  public DeadlineTest() {
+    AppProperties.DeadlineRoute route = new AppProperties.DeadlineRoute();
+    route.setPattern("/slow/**");
+    route.setTimeout(Duration.ofMillis(50));
+    AppProperties.RequestDeadline properties = new AppProperties.RequestDeadline();
+    properties.setRoutes(List.of(route));
+    DeadlineFilter deadlineFilter = new DeadlineFilter(properties, exceptionResolver());
+    deadlineFilter.bindTo(registry);
+
+    mockMvc = MockMvcBuilders.standaloneSetup(controller)
+        .setControllerAdvice(new RestResponseExceptionHandler())
+        .addFilters(deadlineFilter, new RequestLoggingFilter(new AppProperties(), null))
+        .build();
+  }
+
+  @Test
+  public void shouldBindDeadlineFromHeaderOrRoute() throws Exception {
+    mockMvc.perform(get("/remaining").header(HEADER, "5000"))
+        .andExpect(status().isOk())
+        .andExpect(result -> assertThat(Long.parseLong(result.getResponse().getContentAsString()))
+            .isBetween(4000L, 5000L));
+    mockMvc.perform(get("/slow/remaining").header(HEADER, "5000"))
+        .andExpect(result -> assertThat(Long.parseLong(result.getResponse().getContentAsString()))
+            .isBetween(0L, 50L));
+    mockMvc.perform(get("/remaining"))
+        .andExpect(content().string("none"));
+    mockMvc.perform(get("/remaining").header(HEADER, "soon"))
+        .andExpect(content().string("none"));
+    mockMvc.perform(get("/remaining").header(HEADER, "-1"))
+        .andExpect(content().string("none"));
+  }
+
+  @Test
+  public void shouldCapRequestedDeadline() throws Exception {
+    mockMvc.perform(get("/remaining").header(HEADER, Long.toString(Long.MAX_VALUE)))
+        .andExpect(status().isOk())
+        .andExpect(result -> assertThat(Long.parseLong(result.getResponse().getContentAsString()))
+            .isBetween(DeadlineFilter.MAXIMUM_REQUESTED_TIMEOUT.toMillis() - 1000,
+                DeadlineFilter.MAXIMUM_REQUESTED_TIMEOUT.toMillis()));
+  }
+
+  @Test
+  public void shouldAbandonWorkPastTheDeadline() throws Exception {
+    mockMvc.perform(get("/slow/work"))
+        .andExpect(status().isGatewayTimeout())
+        .andExpect(jsonPath("$.message").value("The request deadline has passed"));
+
+    assertThat(controller.steps).hasValue(1);
+    assertThat(registry.get("http.server.requests.abandoned").functionCounter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRejectRequestReceivedPastTheDeadline() throws Exception {
+    mockMvc.perform(get("/slow/work").header(HEADER, "0"))
+        .andExpect(status().isGatewayTimeout());
+
+    assertThat(controller.steps).hasValue(0);
+    assertThat(registry.get("http.server.requests.abandoned").functionCounter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void shouldPropagateDeadlineOnOutboundCalls() throws Exception {
+    DeadlineInterceptor interceptor = new DeadlineInterceptor(HEADER);
+    MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+        URI.create("http://localhost/items"));
+    Map<String, HttpHeaders> sent = new HashMap<>();
+
+    DeadlineHolder.call(Deadline.after(Duration.ofSeconds(2)),
+        () -> interceptor.intercept(request, new byte[0], (outbound, body) -> {
+          sent.put("headers", outbound.getHeaders());
+          return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        }));
+    assertThat(Long.parseLong(Objects.requireNonNull(
+        sent.get("headers").getFirst(HEADER)))).isBetween(1000L, 2000L);
+
+    assertThatThrownBy(() -> DeadlineHolder.call(Deadline.after(Duration.ZERO),
+        () -> interceptor.intercept(request, new byte[0], (outbound, body) -> {
+          throw new IllegalStateException("Must not be sent");
+        }))).isInstanceOf(DeadlineExceededException.class);
+    assertThat(DeadlineHolder.current()).isNull();
+  }
+
+  private static ObjectProvider<HandlerExceptionResolver> exceptionResolver() {
+    StaticApplicationContext context = new StaticApplicationContext();
+    context.registerSingleton("exceptionHandler", RestResponseExceptionHandler.class);
+    context.refresh();
+    ExceptionHandlerExceptionResolver resolver = new ExceptionHandlerExceptionResolver();
+    resolver.setApplicationContext(context);
+    resolver.setMessageConverters(List.of(new JacksonJsonHttpMessageConverter()));
+    resolver.afterPropertiesSet();
+    return new StaticListableBeanFactory(Map.of("resolver", resolver))
+        .getBeanProvider(HandlerExceptionResolver.class);
+  }
+
+  @RestController
+  static class Controller {
+
+    private final AtomicInteger steps = new AtomicInteger();
+
+    @GetMapping({"/remaining", "/slow/remaining"})
+    String remaining() {
+      Deadline deadline = DeadlineHolder.current();
+      return deadline == null ? "none" : Long.toString(deadline.remaining().toMillis());
+    }
+
+    @GetMapping("/slow/work")
+    String work() throws InterruptedException {
+      for (int step = 0; step < 10; step++) {
+        DeadlineHolder.check();
+        steps.incrementAndGet();
+        Thread.sleep(100);
+      }
+      return "done";
+    }
+
+  }
+
+}
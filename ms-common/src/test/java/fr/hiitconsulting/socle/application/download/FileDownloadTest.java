@@ -0,0 +1,192 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.download;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.EtagFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.FileDownload;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.FileDownloadRequestMatcher;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.FileDownloadReturnValueHandler;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+public class FileDownloadTest {
+
+  private static final String CONTENT = "0123456789abcdefghij";
+  private static final String SENDFILE = "org.apache.tomcat.sendfile.";
+
+  @TempDir
+  private Path directory;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    Files.writeString(directory.resolve("report.csv"), CONTENT);
+    mockMvc = MockMvcBuilders.standaloneSetup(new Downloads(directory))
+        .setCustomReturnValueHandlers(new FileDownloadReturnValueHandler())
+        .build();
+  }
+
+  @Test
+  public void shouldServeWholeFileWithMetadataEtag() throws Exception {
+    String etag = mockMvc.perform(get("/report"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"[0-9a-f]+-14\"")))
+        .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+        .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length()))
+        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment")))
+        .andExpect(content().contentType("text/csv"))
+        .andExpect(content().string(CONTENT))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/report").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  public void shouldServeSingleRange() throws Exception {
+    mockMvc.perform(get("/report").header(HttpHeaders.RANGE, "bytes=2-5"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/20"))
+        .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+        .andExpect(content().string("2345"));
+    mockMvc.perform(get("/report").header(HttpHeaders.RANGE, "bytes=-3"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 17-19/20"))
+        .andExpect(content().string("hij"));
+    mockMvc.perform(get("/report").header(HttpHeaders.RANGE, "bytes=0-1,4-5"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(CONTENT));
+    mockMvc.perform(get("/report").header(HttpHeaders.RANGE, "bytes=20-"))
+        .andExpect(status().isRequestedRangeNotSatisfiable())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */20"));
+  }
+
+  @Test
+  public void shouldServeWholeFileWhenIfRangeIsStale() throws Exception {
+    String etag = mockMvc.perform(get("/report"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/report")
+            .header(HttpHeaders.RANGE, "bytes=10-")
+            .header(HttpHeaders.IF_RANGE, etag))
+        .andExpect(status().isPartialContent())
+        .andExpect(content().string("abcdefghij"));
+    mockMvc.perform(get("/report")
+            .header(HttpHeaders.RANGE, "bytes=10-")
+            .header(HttpHeaders.IF_RANGE, "\"stale\""))
+        .andExpect(status().isOk())
+        .andExpect(content().string(CONTENT));
+  }
+
+  @Test
+  public void shouldHandOverLargeFilesToContainer() throws Exception {
+    Path archive = Files.write(directory.resolve("archive.bin"), new byte[64 * 1024]);
+
+    mockMvc.perform(get("/archive")
+            .header(HttpHeaders.RANGE, "bytes=1024-")
+            .requestAttr(SENDFILE + "support", true))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 63 * 1024))
+        .andExpect(content().string(""))
+        .andExpect(request().attribute(SENDFILE + "filename", archive.toString()))
+        .andExpect(request().attribute(SENDFILE + "start", 1024L))
+        .andExpect(request().attribute(SENDFILE + "end", 64 * 1024L));
+  }
+
+  @Test
+  public void shouldExemptDownloadsFromBufferingFilters() throws Exception {
+    StaticWebApplicationContext context = new StaticWebApplicationContext();
+    context.getBeanFactory().registerSingleton("downloads", new Downloads(directory));
+    context.refresh();
+    RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+    mapping.setApplicationContext(context);
+    mapping.afterPropertiesSet();
+    EtagFilter filter = new EtagFilter(null, new FileDownloadRequestMatcher(
+        new StaticListableBeanFactory(Map.of("mapping", mapping))
+            .getBeanProvider(RequestMappingHandlerMapping.class)), null);
+
+    AtomicReference<ServletResponse> filtered = new AtomicReference<>();
+    FilterChain chain = (request, response) -> filtered.set(response);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/report"), response, chain);
+    assertThat(filtered.get()).isSameAs(response);
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/other"), response, chain);
+    assertThat(filtered.get()).isInstanceOf(ContentCachingResponseWrapper.class);
+  }
+
+  @Controller
+  public static class Downloads {
+
+    private final Path directory;
+
+    Downloads(Path directory) {
+      this.directory = directory;
+    }
+
+    @GetMapping("/report")
+    public FileDownload report() {
+      return FileDownload.of(directory.resolve("report.csv")).asAttachment("report.csv");
+    }
+
+    @GetMapping("/archive")
+    public FileDownload archive() {
+      return FileDownload.of(directory.resolve("archive.bin"));
+    }
+
+  }
+
+}
@@ -0,0 +1,232 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import fr.hiitconsulting.socle.domain.shared.event.DomainEvent;
+import fr.hiitconsulting.socle.domain.shared.event.DomainEventConsumer;
+import fr.hiitconsulting.socle.infrastructure.common.event.DomainEventBus;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class DomainEventBusTest {
+
+  @Test
+  public void shouldDeliverEventsInBatchesAndInOrder() {
+    RecordingConsumer<OrderPlaced> consumer = new RecordingConsumer<>(OrderPlaced.class);
+    DomainEventBus bus = new DomainEventBus(List.of(consumer), new AppProperties.Events());
+
+    IntStream.range(0, 1000).forEach(i -> bus.publish(new OrderPlaced(i)));
+    bus.start();
+    bus.stop();
+
+    assertThat(consumer.events()).extracting(OrderPlaced::number)
+        .containsExactlyElementsOf(IntStream.range(0, 1000).boxed().toList());
+    assertThat(consumer.batches).hasSizeLessThan(10).allMatch(size -> size <= 256);
+  }
+
+  @Test
+  public void shouldRouteEventsByType() {
+    RecordingConsumer<OrderPlaced> orders = new RecordingConsumer<>(OrderPlaced.class);
+    RecordingConsumer<DomainEvent> all = new RecordingConsumer<>(DomainEvent.class);
+    DomainEventBus bus = new DomainEventBus(List.of(orders, all), new AppProperties.Events());
+    bus.start();
+
+    bus.publish(new OrderPlaced(1));
+    bus.publish(new OrderCancelled(1));
+    bus.stop();
+
+    assertThat(orders.events()).containsExactly(new OrderPlaced(1));
+    assertThat(all.events()).containsExactly(new OrderPlaced(1), new OrderCancelled(1));
+  }
+
+  @Test
+  public void shouldApplyBackpressureOfFullQueue() {
+    AppProperties.Events properties = new AppProperties.Events();
+    properties.getConsumers().put("dropping", consumer(AppProperties.Backpressure.DROP));
+    properties.getConsumers().put("failing", consumer(AppProperties.Backpressure.FAIL));
+    RecordingConsumer<OrderPlaced> dropping =
+        new RecordingConsumer<>(OrderPlaced.class, "dropping");
+    RecordingConsumer<OrderPlaced> failing =
+        new RecordingConsumer<>(OrderPlaced.class, "failing");
+    DomainEventBus bus = new DomainEventBus(List.of(dropping, failing), properties);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    bus.bindTo(registry);
+
+    bus.publish(new OrderPlaced(1));
+    bus.publish(new OrderPlaced(2));
+    assertThat(registry.get("domain.events.queue.depth").tag("consumer", "failing").gauge()
+        .value()).isEqualTo(2);
+    assertThatThrownBy(() -> bus.publish(new OrderPlaced(3)))
+        .isInstanceOf(RejectedExecutionException.class);
+    bus.start();
+    bus.stop();
+
+    assertThat(dropping.events()).containsExactly(new OrderPlaced(1), new OrderPlaced(2));
+    assertThat(registry.get("domain.events.dropped").tag("consumer", "dropping")
+        .functionCounter().count()).isEqualTo(1);
+    assertThat(registry.get("domain.events.consumed").tag("consumer", "failing")
+        .functionCounter().count()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldKeepConsumingAfterFailure() throws InterruptedException {
+    CountDownLatch consumed = new CountDownLatch(2);
+    DomainEventConsumer<OrderPlaced> consumer = new DomainEventConsumer<>() {
+      @Override
+      public Class<OrderPlaced> eventType() {
+        return OrderPlaced.class;
+      }
+
+      @Override
+      public void consume(List<OrderPlaced> events) {
+        consumed.countDown();
+        throw new IllegalStateException("Broken consumer");
+      }
+    };
+    DomainEventBus bus = new DomainEventBus(List.of(consumer), new AppProperties.Events());
+    bus.start();
+
+    bus.publish(new OrderPlaced(1));
+    Thread.sleep(200);
+    bus.publish(new OrderPlaced(2));
+
+    assertThat(consumed.await(5, TimeUnit.SECONDS)).isTrue();
+    bus.stop();
+  }
+
+  @Test
+  public void shouldKeepConsumingAfterError() throws InterruptedException {
+    CountDownLatch consumed = new CountDownLatch(2);
+    DomainEventConsumer<OrderPlaced> consumer = new DomainEventConsumer<>() {
+      @Override
+      public Class<OrderPlaced> eventType() {
+        return OrderPlaced.class;
+      }
+
+      @Override
+      public void consume(List<OrderPlaced> events) {
+        consumed.countDown();
+        throw new NoClassDefFoundError("Broken consumer");
+      }
+    };
+    DomainEventBus bus = new DomainEventBus(List.of(consumer), new AppProperties.Events());
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    bus.bindTo(registry);
+    bus.start();
+
+    bus.publish(new OrderPlaced(1));
+    Thread.sleep(200);
+    bus.publish(new OrderPlaced(2));
+
+    assertThat(consumed.await(5, TimeUnit.SECONDS)).isTrue();
+    bus.stop();
+    assertThat(registry.get("domain.events.failed").functionCounter().count()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRejectEventsOnceStopped() {
+    AppProperties.Events properties = new AppProperties.Events();
+    properties.getConsumers().put("blocking", consumer(AppProperties.Backpressure.BLOCK));
+    DomainEventBus bus = new DomainEventBus(
+        List.of(new RecordingConsumer<>(OrderPlaced.class, "blocking")), properties);
+    bus.publish(new OrderPlaced(1));
+    bus.publish(new OrderPlaced(2));
+    CompletableFuture<Void> blocked =
+        CompletableFuture.runAsync(() -> bus.publish(new OrderPlaced(3)));
+
+    bus.stop();
+
+    assertThatThrownBy(() -> blocked.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(RejectedExecutionException.class);
+    assertThatThrownBy(() -> bus.publish(new OrderPlaced(4)))
+        .isInstanceOf(RejectedExecutionException.class);
+  }
+
+  private static AppProperties.EventConsumer consumer(AppProperties.Backpressure backpressure) {
+    AppProperties.EventConsumer consumer = new AppProperties.EventConsumer();
+    consumer.setQueueCapacity(2);
+    consumer.setBackpressure(backpressure);
+    consumer.setVirtualThread(false);
+    return consumer;
+  }
+
+  record OrderPlaced(int number) implements DomainEvent {
+  }
+
+  record OrderCancelled(int number) implements DomainEvent {
+  }
+
+  static class RecordingConsumer<E extends DomainEvent> implements DomainEventConsumer<E> {
+
+    private final Class<E> eventType;
+    private final String name;
+    private final List<E> events = new CopyOnWriteArrayList<>();
+    private final List<Integer> batches = new CopyOnWriteArrayList<>();
+
+    RecordingConsumer(Class<E> eventType) {
+      this(eventType, eventType.getSimpleName());
+    }
+
+    RecordingConsumer(Class<E> eventType, String name) {
+      this.eventType = eventType;
+      this.name = name;
+    }
+
+    @Override
+    public Class<E> eventType() {
+      return eventType;
+    }
+
+    @Override
+    public void consume(List<E> batch) {
+      events.addAll(batch);
+      batches.add(batch.size());
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    List<E> events() {
+      return new ArrayList<>(events);
+    }
+
+  }
+
+}
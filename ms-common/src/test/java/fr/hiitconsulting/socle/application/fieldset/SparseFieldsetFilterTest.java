@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.fieldset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.SparseFieldsetFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.SparseFieldsetModule;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.InvalidFieldsetException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+public class SparseFieldsetFilterTest {
+
+  private final JsonMapper mapper = JsonMapper.builder()
+      .addModule(new SparseFieldsetModule())
+      .filterProvider(new SimpleFilterProvider().setFailOnUnknownId(false))
+      .build();
+
+  private final User user = new User("1", "John", "john@hiit.fr",
+      new Address("Paris", "75001"), List.of(new Address("Lyon", "69001")));
+
+  record Address(String city, String zip) {
+
+  }
+
+  record User(String id, String name, String email, Address address, List<Address> others) {
+
+  }
+
+  @Test
+  public void shouldSerializeEverythingWithoutProjection() {
+    assertEquals("{\"id\":\"1\",\"name\":\"John\",\"email\":\"john@hiit.fr\","
+            + "\"address\":{\"city\":\"Paris\",\"zip\":\"75001\"},"
+            + "\"others\":[{\"city\":\"Lyon\",\"zip\":\"69001\"}]}",
+        mapper.writeValueAsString(user));
+  }
+
+  @Test
+  public void shouldOnlySerializeSelectedFields() throws Exception {
+    SparseFieldsetFilter filter = compile("id, address.city, others", User.class);
+
+    assertEquals(
+        "{\"id\":\"1\",\"address\":{\"city\":\"Paris\"},"
+            + "\"others\":[{\"city\":\"Lyon\",\"zip\":\"69001\"}]}",
+        mapper.writer(filter.filterProvider()).writeValueAsString(user));
+  }
+
+  @Test
+  public void shouldApplyProjectionToCollectionElements() throws Exception {
+    SparseFieldsetFilter filter = compile("name,others.zip",
+        mapper.getTypeFactory().constructCollectionType(List.class, User.class));
+
+    assertEquals("[{\"name\":\"John\",\"others\":[{\"zip\":\"69001\"}]}]",
+        mapper.writer(filter.filterProvider()).writeValueAsString(List.of(user)));
+  }
+
+  @Test
+  public void shouldRejectUnknownFields() {
+    InvalidFieldsetException exception = assertThrows(InvalidFieldsetException.class,
+        () -> compile("id,password,address.country", User.class));
+
+    assertEquals(Map.of("password", "Unknown field", "address.country", "Unknown field"),
+        exception.getErrors());
+  }
+
+  private SparseFieldsetFilter compile(String spec, Class<?> type)
+      throws InvalidFieldsetException {
+    return compile(spec, mapper.constructType(type));
+  }
+
+  private SparseFieldsetFilter compile(String spec, JavaType type)
+      throws InvalidFieldsetException {
+    return SparseFieldsetFilter.compile(spec, type, mapper);
+  }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.httpclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.out.ConnectionLimitInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.out.HedgingInterceptor;
+import fr.hiitconsulting.socle.infrastructure.configuration.MsCommonAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.boot.restclient.RestClientCustomizer;
+import org.springframework.boot.restclient.autoconfigure.RestClientAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+public class OutboundHttpClientTest {
+
+  private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+          RestClientAutoConfiguration.class, MsCommonAutoConfiguration.class));
+
+  private final AtomicInteger slowCalls = new AtomicInteger();
+
+  private final AtomicInteger chainExecutions = new AtomicInteger();
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  private HttpServer server;
+
+  @BeforeEach
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.createContext("/fast", exchange -> respond(exchange, "fast"));
+    server.createContext("/slow", exchange -> {
+      // only the first call is slow, the hedged one answers at once
+      if (slowCalls.incrementAndGet() == 1) {
+        await(release);
+      }
+      respond(exchange, "slow " + slowCalls.get());
+    });
+    server.createContext("/blocked", exchange -> {
+      await(release);
+      respond(exchange, "blocked");
+    });
+    server.start();
+  }
+
+  @AfterEach
+  public void stopServer() {
+    release.countDown();
+    server.stop(0);
+  }
+
+  @Test
+  public void shouldHedgeSlowGet() {
+    contextRunner
+        .withPropertyValues("app.http-client.hedging.enabled=true")
+        .run(context -> {
+          MeterRegistry registry = new SimpleMeterRegistry();
+          context.getBean(HedgingInterceptor.class).bindTo(registry);
+          RestClient client = context.getBean(RestClient.Builder.class)
+              .baseUrl(baseUrl())
+              .build();
+          IntStream.range(0, 30).forEach(i ->
+              client.get().uri("/fast").retrieve().body(String.class));
+
+          long start = System.nanoTime();
+          String body = client.get().uri("/slow").retrieve().body(String.class);
+
+          assertThat(body).isEqualTo("slow 2");
+          assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+          assertThat(registry.get("http.client.hedged.requests").tag("winner", "hedge")
+              .counter().count()).isEqualTo(1);
+        });
+  }
+
+  @Test
+  public void shouldHedgeWithoutExecutingTheChainTwice() throws IOException {
+    JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory();
+    HedgingInterceptor interceptor = new HedgingInterceptor(Duration.ofMillis(20),
+        requestFactory);
+    ClientHttpRequestExecution chain = (request, body) -> {
+      chainExecutions.incrementAndGet();
+      return requestFactory.createRequest(request.getURI(), request.getMethod()).execute();
+    };
+    for (int i = 0; i < 30; i++) {
+      try (ClientHttpResponse response = interceptor.intercept(
+          requestFactory.createRequest(URI.create(baseUrl() + "/fast"), HttpMethod.GET),
+          new byte[0], chain)) {
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+      }
+    }
+
+    try (ClientHttpResponse response = interceptor.intercept(
+        requestFactory.createRequest(URI.create(baseUrl() + "/slow"), HttpMethod.GET),
+        new byte[0], chain)) {
+      assertThat(StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8))
+          .isEqualTo("slow 2");
+    } finally {
+      interceptor.close();
+    }
+    assertThat(slowCalls).hasValue(2);
+    assertThat(chainExecutions).hasValue(31);
+  }
+
+  @Test
+  public void shouldKeepBuilderCustomizersOfApplication() {
+    contextRunner
+        .withBean(RestClientCustomizer.class,
+            () -> builder -> builder.defaultHeader("X-Application", "orders"))
+        .run(context -> {
+          AtomicInteger headers = new AtomicInteger();
+          server.createContext("/header", exchange -> {
+            if ("orders".equals(exchange.getRequestHeaders().getFirst("X-Application"))) {
+              headers.incrementAndGet();
+            }
+            respond(exchange, "header");
+          });
+          RestClient client = context.getBean(RestClient.Builder.class)
+              .baseUrl(baseUrl())
+              .build();
+
+          assertThat(client.get().uri("/header").retrieve().body(String.class))
+              .isEqualTo("header");
+          assertThat(headers).hasValue(1);
+        });
+  }
+
+  @Test
+  public void shouldNotHedgeByDefault() {
+    contextRunner
+        .withPropertyValues("app.http-client.read-timeout=500ms")
+        .run(context -> {
+          RestClient client = context.getBean(RestClient.Builder.class)
+              .baseUrl(baseUrl())
+              .build();
+          IntStream.range(0, 30).forEach(i ->
+              client.get().uri("/fast").retrieve().body(String.class));
+
+          assertThatThrownBy(() -> client.get().uri("/slow").retrieve().body(String.class))
+              .isInstanceOf(ResourceAccessException.class);
+          assertThat(slowCalls).hasValue(1);
+        });
+  }
+
+  @Test
+  public void shouldBoundConnectionsPerHost() {
+    contextRunner
+        .withPropertyValues("app.http-client.max-connections-per-host=1",
+            "app.http-client.acquire-timeout=100ms")
+        .run(context -> {
+          MeterRegistry registry = new SimpleMeterRegistry();
+          context.getBean(ConnectionLimitInterceptor.class).bindTo(registry);
+          RestClient client = context.getBean(RestClient.Builder.class)
+              .baseUrl(baseUrl())
+              .build();
+          CompletableFuture<String> blocked = CompletableFuture.supplyAsync(() ->
+              client.get().uri("/blocked").retrieve().body(String.class));
+
+          waitForActiveConnection(registry);
+          assertThatThrownBy(() -> client.get().uri("/fast").retrieve().body(String.class))
+              .isInstanceOf(ResourceAccessException.class)
+              .hasMessageContaining("No connection to");
+
+          release.countDown();
+          assertThat(blocked.get(5, TimeUnit.SECONDS)).isEqualTo("blocked");
+          assertThat(client.get().uri("/fast").retrieve().body(String.class)).isEqualTo("fast");
+          assertThat(registry.get("http.client.connections.active").gauge().value()).isZero();
+        });
+  }
+
+  private String baseUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  private static void waitForActiveConnection(MeterRegistry registry)
+      throws InterruptedException {
+    for (int i = 0; i < 100; i++) {
+      if (registry.find("http.client.connections.active").gauge() != null
+          && registry.get("http.client.connections.active").gauge().value() == 1) {
+        return;
+      }
+      Thread.sleep(20);
+    }
+  }
+
+  private static void respond(HttpExchange exchange, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "text/plain");
+    exchange.sendResponseHeaders(200, bytes.length);
+    exchange.getResponseBody().write(bytes);
+    exchange.close();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
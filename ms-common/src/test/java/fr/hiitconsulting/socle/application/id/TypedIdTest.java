@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import fr.hiitconsulting.socle.domain.shared.id.LongId;
+import fr.hiitconsulting.socle.domain.shared.id.UuidId;
+import fr.hiitconsulting.socle.domain.shared.id.UuidV7Generator;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.TypedIdModule;
+import fr.hiitconsulting.socle.infrastructure.configuration.TypedIdConfiguration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+public class TypedIdTest {
+
+  private final JsonMapper jsonMapper = JsonMapper.builder()
+      .addModule(new TypedIdModule())
+      .build();
+
+  @Test
+  public void shouldParseAndFormatLikeUuid() {
+    for (int i = 0; i < 1000; i++) {
+      UUID uuid = UUID.randomUUID();
+
+      UuidId<Order> id = UuidId.parse(uuid.toString().toUpperCase());
+
+      assertThat(id.toUuid()).isEqualTo(uuid);
+      assertThat(id).hasToString(uuid.toString()).isEqualTo(UuidId.of(uuid));
+      assertThat(id.appendTo(new StringBuilder())).hasToString(uuid.toString());
+    }
+    assertThatThrownBy(() -> UuidId.parse("0189d5b0-7a4b-7c2e-9f1a-3b5c7d9e1f2g"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> UuidId.parse("0189d5b07a4b7c2e9f1a3b5c7d9e1f2a"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LongId.parse("12a")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldGenerateIncreasingV7Identifiers() {
+    AtomicLong clock = new AtomicLong(1_760_000_000_000L);
+    UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+    List<UuidId<Order>> ids = new ArrayList<>();
+    IntStream.range(0, 10_000).forEach(i -> ids.add(generator.next()));
+    clock.addAndGet(-1000);
+    ids.add(generator.next());
+
+    assertThat(ids).isSorted().doesNotHaveDuplicates();
+    assertThat(ids.getFirst().version()).isEqualTo(7);
+    assertThat(ids.getFirst().toUuid().variant()).isEqualTo(2);
+    assertThat(ids.getFirst().timestamp()).isEqualTo(Instant.ofEpochMilli(1_760_000_000_000L));
+    assertThat(ids.stream().map(UuidId::toString).sorted().toList())
+        .isEqualTo(ids.stream().map(UuidId::toString).toList());
+  }
+
+  @Test
+  public void shouldSerializeAsScalars() {
+    UuidId<Order> id = UuidId.v7();
+    Order order = new Order(id, new LongId<>(42), Map.of(id, 3));
+
+    String json = jsonMapper.writeValueAsString(order);
+
+    assertThat(json).isEqualTo("{\"id\":\"" + id + "\",\"customerId\":42,\"quantities\":{\""
+        + id + "\":3}}");
+    assertThat(jsonMapper.readValue(json, Order.class)).isEqualTo(order);
+    assertThat(jsonMapper.readValue("\"42\"", new TypeReference<LongId<Customer>>() {
+    })).isEqualTo(new LongId<Customer>(42));
+  }
+
+  @Test
+  public void shouldSerializeUuidAsBytesInBinaryFormats() {
+    CBORMapper cborMapper = CBORMapper.builder().addModule(new TypedIdModule()).build();
+    UuidId<Order> id = UuidId.v7();
+
+    byte[] cbor = cborMapper.writeValueAsBytes(id);
+
+    assertThat(cbor).hasSize(17);
+    assertThat(cborMapper.readValue(cbor, UuidId.class)).isEqualTo(id);
+  }
+
+  @Test
+  public void shouldBindPathVariables() throws Exception {
+    DefaultFormattingConversionService conversionService =
+        new DefaultFormattingConversionService();
+    new TypedIdConfiguration().addFormatters(conversionService);
+    MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new Controller())
+        .setConversionService(conversionService)
+        .build();
+    UuidId<Order> id = UuidId.v7();
+
+    mockMvc.perform(get("/orders/{id}", id))
+        .andExpect(content().string(String.valueOf(id.timestamp().toEpochMilli())));
+    mockMvc.perform(get("/orders/invalid"))
+        .andExpect(status().isBadRequest());
+  }
+
+  record Order(UuidId<Order> id, LongId<Customer> customerId,
+      Map<UuidId<Order>, Integer> quantities) {
+  }
+
+  record Customer() {
+  }
+
+  @RestController
+  static class Controller {
+
+    @GetMapping("/orders/{id}")
+    String order(@PathVariable UuidId<Order> id) {
+      return String.valueOf(id.timestamp().toEpochMilli());
+    }
+
+  }
+
+}
@@ -0,0 +1,264 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.IdempotencyFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RateLimitFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.exception.IdempotencyKeyConflictException;
+import fr.hiitconsulting.socle.infrastructure.common.idempotency.InMemoryIdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+public class IdempotencyFilterTest {
+
+  private final AtomicInteger executions = new AtomicInteger();
+
+  private final IdempotencyFilter filter = new IdempotencyFilter(
+      new InMemoryIdempotencyStore(DataSize.ofMegabytes(1), Duration.ofMinutes(1)),
+      Duration.ofSeconds(5), 1024,
+      new StaticListableBeanFactory().getBeanProvider(HandlerExceptionResolver.class), null);
+
+  private final FilterChain chain = (request, response) -> {
+    HttpServletResponse httpResponse = (HttpServletResponse) response;
+    httpResponse.setStatus(201);
+    httpResponse.setHeader("Location", "/orders/" + executions.incrementAndGet());
+    httpResponse.addHeader("Set-Cookie", "session=" + executions.get());
+    response.setContentType("application/json");
+    response.getWriter().write("{\"id\":" + executions.get() + "}");
+  };
+
+  @Test
+  public void shouldReplayCompletedResponse() throws Exception {
+    MockHttpServletResponse first = post("/orders", "key-1");
+    MockHttpServletResponse second = post("/orders", "key-1");
+
+    assertThat(executions).hasValue(1);
+    assertThat(second.getStatus()).isEqualTo(201);
+    assertThat(second.getHeader("Location")).isEqualTo(first.getHeader("Location"));
+    assertThat(second.getContentType()).isEqualTo("application/json");
+    assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+    assertThat(second.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+    assertThat(first.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isNull();
+    assertThat(first.getHeader("Set-Cookie")).isEqualTo("session=1");
+    assertThat(second.getHeader("Set-Cookie")).isNull();
+  }
+
+  @Test
+  public void shouldNotReplayRateLimitHeadersOfTheFirstCaller() throws Exception {
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    first.setHeader(RateLimitFilter.RATE_LIMIT_REMAINING, "9");
+    filter.doFilter(request("/orders", "key-1", null, "{}"), first, chain);
+    MockHttpServletResponse second = new MockHttpServletResponse();
+    second.setHeader(RateLimitFilter.RATE_LIMIT_REMAINING, "8");
+    filter.doFilter(request("/orders", "key-1", null, "{}"), second, chain);
+
+    assertThat(second.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isEqualTo("true");
+    assertThat(second.getHeaders(RateLimitFilter.RATE_LIMIT_REMAINING)).containsExactly("8");
+  }
+
+  @Test
+  public void shouldNotReplayResponseOfAnotherClient() throws Exception {
+    post("/orders", "key-1", "alice", "{}");
+    MockHttpServletResponse other = post("/orders", "key-1", "bob", "{}");
+    MockHttpServletResponse anonymous = post("/orders", "key-1", null, "{}");
+
+    assertThat(executions).hasValue(3);
+    assertThat(other.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isNull();
+    assertThat(anonymous.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED)).isNull();
+  }
+
+  @Test
+  public void shouldRejectKeyReusedWithAnotherBody() throws Exception {
+    post("/orders", "key-1", "alice", "{\"quantity\":1}");
+
+    assertThatThrownBy(() -> post("/orders", "key-1", "alice", "{\"quantity\":2}"))
+        .isInstanceOf(IdempotencyKeyConflictException.class);
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  public void shouldPassBodyToChainAndSkipBodiesTooLargeToCompare() throws Exception {
+    StringBuilder received = new StringBuilder();
+    FilterChain readingChain = (request, response) -> {
+      received.append(new String(request.getInputStream().readAllBytes(),
+          StandardCharsets.UTF_8)).append('|');
+      chain.doFilter(request, response);
+    };
+    String large = "x".repeat(2048);
+
+    filter.doFilter(request("/orders", "key-1", null, "{}"), new MockHttpServletResponse(),
+        readingChain);
+    filter.doFilter(request("/orders", "key-2", null, large), new MockHttpServletResponse(),
+        readingChain);
+    filter.doFilter(request("/orders", "key-2", null, large), new MockHttpServletResponse(),
+        readingChain);
+
+    assertThat(received.toString()).isEqualTo("{}|" + large + "|" + large + "|");
+    assertThat(executions).hasValue(3);
+  }
+
+  @Test
+  public void shouldNotifyReadListenerOfTheBufferedBody() throws Exception {
+    StringBuilder received = new StringBuilder();
+    FilterChain listeningChain = (request, response) -> {
+      ServletInputStream input = request.getInputStream();
+      input.setReadListener(new ReadListener() {
+        @Override
+        public void onDataAvailable() throws IOException {
+          while (input.isReady() && !input.isFinished()) {
+            int read = input.read();
+            if (read != -1) {
+              received.append((char) read);
+            }
+          }
+        }
+
+        @Override
+        public void onAllDataRead() {
+          received.append('|');
+        }
+
+        @Override
+        public void onError(Throwable t) {
+          received.append("error");
+        }
+      });
+      chain.doFilter(request, response);
+    };
+
+    filter.doFilter(request("/orders", "key-1", null, "{\"quantity\":1}"),
+        new MockHttpServletResponse(), listeningChain);
+
+    assertThat(received.toString()).isEqualTo("{\"quantity\":1}|");
+  }
+
+  @Test
+  public void shouldExecuteRequestsWithoutKeyOrWithDistinctKeys() throws Exception {
+    post("/orders", null);
+    post("/orders", null);
+    post("/orders", "key-1");
+    post("/orders", "key-2");
+
+    assertThat(executions).hasValue(4);
+  }
+
+  @Test
+  public void shouldRejectKeyReusedOnAnotherEndpoint() throws Exception {
+    post("/orders", "key-1");
+
+    assertThatThrownBy(() -> post("/payments", "key-1"))
+        .isInstanceOf(IdempotencyKeyConflictException.class);
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  public void shouldCoalesceConcurrentDuplicates() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    IdempotencyFilter slowFilter = new IdempotencyFilter(
+        new InMemoryIdempotencyStore(DataSize.ofMegabytes(1), Duration.ofMinutes(1)),
+        Duration.ofSeconds(5), 1024,
+        new StaticListableBeanFactory().getBeanProvider(HandlerExceptionResolver.class), null);
+    FilterChain slowChain = (request, response) -> {
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      chain.doFilter(request, response);
+    };
+
+    CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(
+        () -> post(slowFilter, slowChain, "/orders", "key-1"));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    CompletableFuture<MockHttpServletResponse> second = CompletableFuture.supplyAsync(
+        () -> post(slowFilter, slowChain, "/orders", "key-1"));
+    release.countDown();
+
+    assertThat(second.get(5, TimeUnit.SECONDS).getContentAsString())
+        .isEqualTo(first.get(5, TimeUnit.SECONDS).getContentAsString());
+    assertThat(executions).hasValue(1);
+  }
+
+  private MockHttpServletResponse post(String uri, @Nullable String key) throws Exception {
+    return post(uri, key, null, "{}");
+  }
+
+  private MockHttpServletResponse post(String uri, @Nullable String key, @Nullable String user,
+      String body) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request(uri, key, user, body), response, chain);
+    return response;
+  }
+
+  private static MockHttpServletRequest request(String uri, @Nullable String key,
+      @Nullable String user, String body) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+    if (key != null) {
+      request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+    }
+    if (user != null) {
+      request.setUserPrincipal(() -> user);
+    }
+    request.setContentType("application/json");
+    request.setContent(body.getBytes(StandardCharsets.UTF_8));
+    return request;
+  }
+
+  private static MockHttpServletResponse post(IdempotencyFilter filter, FilterChain chain,
+      String uri, String key) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+    request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    try {
+      filter.doFilter(request, response, chain);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+    return response;
+  }
+
+}
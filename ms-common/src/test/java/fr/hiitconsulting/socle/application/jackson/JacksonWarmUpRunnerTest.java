@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.ErrorMessageQuery;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.dto.FieldErrorQuery;
+import fr.hiitconsulting.socle.infrastructure.configuration.JacksonWarmUpRunner;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+public class JacksonWarmUpRunnerTest {
+
+  @Test
+  public void shouldWarmUpControllerAndErrorBodyTypes() {
+    JsonMapper mapper = spy(JsonMapper.builder().build());
+    RequestMappingHandlerMapping handlerMapping = mock(RequestMappingHandlerMapping.class);
+    Controller controller = new Controller();
+    when(handlerMapping.getHandlerMethods()).thenReturn(Map.of(
+        RequestMappingInfo.paths("/items").build(), handlerMethod(controller, "list"),
+        RequestMappingInfo.paths("/items/new").build(), handlerMethod(controller, "create"),
+        RequestMappingInfo.paths("/ping").build(), handlerMethod(controller, "ping")));
+
+    new JacksonWarmUpRunner(List.of(mapper), List.of(handlerMapping))
+        .run(new DefaultApplicationArguments());
+
+    ArgumentCaptor<Type> types = ArgumentCaptor.forClass(Type.class);
+    verify(mapper, atLeastOnce()).constructType(types.capture());
+    assertThat(types.getAllValues()).extracting(Type::getTypeName).containsExactlyInAnyOrder(
+        ErrorMessageQuery.class.getTypeName(),
+        FieldErrorQuery.class.getTypeName(),
+        "java.util.List<" + Item.class.getTypeName() + ">",
+        Item.class.getTypeName(),
+        Command.class.getTypeName());
+    verify(mapper, times(5)).writerFor(any(JavaType.class));
+    verify(mapper, times(5)).readerFor(any(JavaType.class));
+  }
+
+  private static HandlerMethod handlerMethod(Controller controller, String name) {
+    return new HandlerMethod(controller,
+        ReflectionUtils.findMethod(Controller.class, name, (Class<?>[]) null));
+  }
+
+  static class Controller {
+
+    ResponseEntity<List<Item>> list() {
+      return ResponseEntity.ok(List.of());
+    }
+
+    Item create(@RequestBody Command command) {
+      return new Item(command.name());
+    }
+
+    String ping() {
+      return "pong";
+    }
+
+  }
+
+  record Item(String name) {
+  }
+
+  record Command(String name) {
+  }
+
+}
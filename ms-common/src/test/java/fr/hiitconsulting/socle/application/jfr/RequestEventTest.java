@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RequestEventInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RequestLoggingFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RestResponseExceptionHandler;
+import fr.hiitconsulting.socle.infrastructure.common.jfr.RequestEvent;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+public class RequestEventTest {
+
+  private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new Controller())
+      .addFilters(new RequestLoggingFilter(new AppProperties(), null))
+      .addInterceptors(new RequestEventInterceptor())
+      .setControllerAdvice(new RestResponseExceptionHandler())
+      .build();
+
+  @Test
+  public void shouldRecordRequestPhases() throws Exception {
+    List<RecordedEvent> events = record(() -> {
+      mockMvc.perform(get("/items/1"));
+      mockMvc.perform(get("/items/invalid"));
+    });
+
+    assertThat(events).hasSize(2);
+    RecordedEvent success = events.getFirst();
+    assertThat(success.getString("method")).isEqualTo("GET");
+    assertThat(success.getString("route")).isEqualTo("/items/{id}");
+    assertThat(success.getInt("status")).isEqualTo(200);
+    assertThat(success.getDuration("handlerDuration")).isPositive();
+    assertThat(success.getDuration("dispatchDuration")).isPositive();
+    assertThat(success.getString("exception")).isNull();
+
+    RecordedEvent failure = events.getLast();
+    assertThat(failure.getInt("status")).isEqualTo(400);
+    assertThat(failure.getString("exception")).isEqualTo(IllegalArgumentException.class.getName());
+  }
+
+  @Test
+  public void shouldNotCreateEventWithoutRecording() throws Exception {
+    MockHttpServletRequest request = mockMvc.perform(get("/items/1")).andReturn().getRequest();
+
+    assertThat(RequestEvent.current(request)).isNull();
+  }
+
+  private static List<RecordedEvent> record(Requests requests) throws Exception {
+    Path file = Files.createTempFile("request-event", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(RequestEvent.NAME).withThreshold(Duration.ZERO);
+      recording.start();
+      requests.perform();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private interface Requests {
+
+    void perform() throws Exception;
+
+  }
+
+  @RestController
+  public static class Controller {
+
+    @GetMapping("/items/{id}")
+    public String item(@PathVariable String id) {
+      if (!id.chars().allMatch(Character::isDigit)) {
+        throw new IllegalArgumentException("Invalid id");
+      }
+      return id;
+    }
+
+  }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import fr.hiitconsulting.socle.domain.shared.pagination.Cursor;
+import fr.hiitconsulting.socle.domain.shared.pagination.CursorPage;
+import fr.hiitconsulting.socle.domain.shared.pagination.CursorRequest;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.CursorPaging;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.CursorPageResponseBodyAdvice;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.CursorRequestArgumentResolver;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RestResponseExceptionHandler;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+public class CursorPaginationTest {
+
+  private static final List<Integer> TABLE = IntStream.rangeClosed(1, 10).boxed().toList();
+
+  private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new Controller())
+      .setCustomArgumentResolvers(new CursorRequestArgumentResolver())
+      .setControllerAdvice(new RestResponseExceptionHandler(), new CursorPageResponseBodyAdvice())
+      .build();
+
+  @Test
+  public void shouldEncodeCursorCompactly() {
+    Cursor cursor = new Cursor(Cursor.Direction.BEFORE, "createdAt", true,
+        List.of("2026-01-01T00:00:00Z", "42"));
+
+    String encoded = cursor.encode();
+
+    assertThat(encoded).matches("[A-Za-z0-9_-]+").hasSizeLessThan(64);
+    assertThat(Cursor.decode(encoded)).isEqualTo(cursor);
+    assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldWalkPagesBothWays() {
+    CursorPage<Integer> first = page(CursorRequest.first(4, "id", false));
+    CursorPage<Integer> second = page(new CursorRequest(first.next(), 4, "id", false));
+    CursorPage<Integer> last = page(new CursorRequest(second.next(), 4, "id", false));
+    CursorPage<Integer> back = page(new CursorRequest(last.previous(), 4, "id", false));
+
+    assertThat(first.items()).containsExactly(1, 2, 3, 4);
+    assertThat(first.previous()).isNull();
+    assertThat(second.items()).containsExactly(5, 6, 7, 8);
+    assertThat(last.items()).containsExactly(9, 10);
+    assertThat(last.next()).isNull();
+    assertThat(back.items()).containsExactly(5, 6, 7, 8);
+    assertThat(page(new CursorRequest(back.previous(), 4, "id", false)).previous()).isNull();
+  }
+
+  @Test
+  public void shouldWalkDescendingPages() {
+    CursorPage<Integer> first = page(CursorRequest.first(3, "id", true));
+    CursorPage<Integer> second = page(new CursorRequest(first.next(), 3, "id", true));
+
+    assertThat(first.items()).containsExactly(10, 9, 8);
+    assertThat(second.items()).containsExactly(7, 6, 5);
+    assertThat(page(new CursorRequest(second.previous(), 3, "id", true)).items())
+        .containsExactly(10, 9, 8);
+  }
+
+  @Test
+  public void shouldRejectCursorOfAnotherSort() {
+    Cursor cursor = page(CursorRequest.first(3, "id", false)).next();
+
+    assertThatThrownBy(() -> new CursorRequest(cursor, 3, "id", true))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldBindRequestAndRenderPage() throws Exception {
+    String next = page(CursorRequest.first(2, "id", true)).next().encode();
+
+    mockMvc.perform(get("/items?size=2&sort=-id"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items", contains(10, 9)))
+        .andExpect(jsonPath("$.page.size").value(2))
+        .andExpect(jsonPath("$.page.next").value(next))
+        .andExpect(jsonPath("$.page.previous").doesNotExist())
+        .andExpect(header().string(HttpHeaders.LINK,
+            "<http://localhost/items?size=2&sort=-id&cursor=" + next + ">; rel=\"next\""));
+
+    mockMvc.perform(get("/items").param("cursor", next).param("size", "2"))
+        .andExpect(jsonPath("$.items", contains(8, 7)));
+  }
+
+  @Test
+  public void shouldRejectInvalidParameters() throws Exception {
+    mockMvc.perform(get("/items").param("sort", "name"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Le champ [sort='name'] doit être parmi [id]."));
+    mockMvc.perform(get("/items").param("size", "1000"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/items").param("cursor", "invalid"))
+        .andExpect(status().isBadRequest());
+  }
+
+  private static CursorPage<Integer> page(CursorRequest request) {
+    Comparator<Integer> scanOrder = request.scanDescending()
+        ? Comparator.reverseOrder() : Comparator.naturalOrder();
+    List<Integer> rows = TABLE.stream()
+        .filter(row -> request.keys().isEmpty()
+            || scanOrder.compare(row, Integer.valueOf(request.keys().getFirst())) > 0)
+        .sorted(scanOrder)
+        .limit(request.fetchSize())
+        .toList();
+    return CursorPage.of(rows, request, row -> List.of(row.toString()));
+  }
+
+  @RestController
+  static class Controller {
+
+    @GetMapping("/items")
+    CursorPage<Integer> items(@CursorPaging(sortable = "id", maxSize = 50) CursorRequest request) {
+      return page(request);
+    }
+
+  }
+
+}
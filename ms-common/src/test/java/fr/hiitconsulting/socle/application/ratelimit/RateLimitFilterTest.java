@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RateLimitFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RestResponseExceptionHandler;
+import fr.hiitconsulting.socle.infrastructure.common.ratelimit.TokenBucket;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+public class RateLimitFilterTest {
+
+  private final AtomicInteger executions = new AtomicInteger();
+  private final FilterChain chain = (request, response) -> executions.incrementAndGet();
+
+  @Test
+  public void shouldRejectRequestsPastTheBudget() throws Exception {
+    RateLimitFilter filter = filter(properties(2));
+
+    MockHttpServletResponse first = get(filter, "/orders", "alice");
+    MockHttpServletResponse second = get(filter, "/orders", "alice");
+    MockHttpServletResponse third = get(filter, "/orders", "alice");
+
+    assertThat(executions).hasValue(2);
+    assertThat(first.getHeader(RateLimitFilter.RATE_LIMIT_LIMIT)).isEqualTo("2");
+    assertThat(first.getHeader(RateLimitFilter.RATE_LIMIT_REMAINING)).isEqualTo("1");
+    assertThat(second.getHeader(RateLimitFilter.RATE_LIMIT_REMAINING)).isEqualTo("0");
+    assertThat(third.getStatus()).isEqualTo(429);
+    assertThat(third.getHeader(RateLimitFilter.RATE_LIMIT_REMAINING)).isEqualTo("0");
+    assertThat(third.getHeader("Retry-After")).isEqualTo("1800");
+    assertThat(third.getHeader(RateLimitFilter.RATE_LIMIT_RESET)).isEqualTo("1800");
+    assertThat(third.getContentAsString())
+        .contains("\"message\":\"Rate limit exceeded, retry in 1800 seconds\"");
+  }
+
+  @Test
+  public void shouldKeepBudgetsPerClientAndRoute() throws Exception {
+    AppProperties.RateLimit properties = properties(1);
+    AppProperties.RateLimitRoute route = new AppProperties.RateLimitRoute();
+    route.setPattern("/payments/**");
+    route.setMethods(List.of("post"));
+    route.setLimit(5);
+    route.setPeriod(Duration.ofHours(1));
+    properties.getRoutes().add(route);
+    RateLimitFilter filter = filter(properties);
+
+    assertThat(get(filter, "/orders", "alice").getStatus()).isEqualTo(200);
+    assertThat(get(filter, "/orders", "alice").getStatus()).isEqualTo(429);
+    assertThat(get(filter, "/orders", "bob").getStatus()).isEqualTo(200);
+    assertThat(get(filter, "/orders", null).getStatus()).isEqualTo(200);
+    assertThat(get(filter, "/payments/1", "alice").getStatus()).isEqualTo(429);
+
+    MockHttpServletRequest payment = new MockHttpServletRequest("POST", "/payments/1");
+    payment.setUserPrincipal(() -> "alice");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(payment, response, chain);
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getHeader(RateLimitFilter.RATE_LIMIT_REMAINING)).isEqualTo("4");
+  }
+
+  @Test
+  public void shouldNotTrustUnauthenticatedApiKeyHeader() throws Exception {
+    AppProperties.RateLimit properties = properties(1);
+    properties.setKeys(List.of(AppProperties.RateLimitKey.API_KEY,
+        AppProperties.RateLimitKey.IP));
+    RateLimitFilter filter = filter(properties);
+
+    assertThat(withApiKey(filter, "random-1", false).getStatus()).isEqualTo(200);
+    assertThat(withApiKey(filter, "random-2", false).getStatus()).isEqualTo(429);
+    assertThat(withApiKey(filter, "key-1", true).getStatus()).isEqualTo(200);
+    assertThat(withApiKey(filter, "key-1", true).getStatus()).isEqualTo(429);
+    assertThat(withApiKey(filter, "key-2", true).getStatus()).isEqualTo(200);
+  }
+
+  @Test
+  public void shouldRefillBucketOverThePeriod() {
+    long start = 1_000_000_000L;
+    TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1), start);
+
+    assertThat(bucket.tryConsume(start)).isEqualTo(1);
+    assertThat(bucket.tryConsume(start)).isZero();
+    assertThat(bucket.tryConsume(start)).isEqualTo(-TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(bucket.tryConsume(start + TimeUnit.MILLISECONDS.toNanos(500))).isZero();
+    assertThat(bucket.nanosUntilFull(start + TimeUnit.MILLISECONDS.toNanos(500)))
+        .isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    assertThat(bucket.tryConsume(start + TimeUnit.SECONDS.toNanos(10))).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotGrantMoreTokensUnderContention() throws Exception {
+    TokenBucket bucket = new TokenBucket(100, Duration.ofHours(1), System.nanoTime());
+    AtomicInteger granted = new AtomicInteger();
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      CompletableFuture.allOf(IntStream.range(0, 8)
+          .mapToObj(i -> CompletableFuture.runAsync(() -> {
+            for (int attempt = 0; attempt < 1000; attempt++) {
+              if (bucket.tryConsume(System.nanoTime()) >= 0) {
+                granted.incrementAndGet();
+              }
+            }
+          }, executor))
+          .toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+    }
+
+    assertThat(granted).hasValue(100);
+  }
+
+  private static AppProperties.RateLimit properties(long limit) {
+    AppProperties.RateLimit properties = new AppProperties.RateLimit();
+    properties.setLimit(limit);
+    properties.setPeriod(Duration.ofHours(1));
+    return properties;
+  }
+
+  private static RateLimitFilter filter(AppProperties.RateLimit properties) {
+    StaticApplicationContext context = new StaticApplicationContext();
+    context.registerSingleton("exceptionHandler", RestResponseExceptionHandler.class);
+    context.refresh();
+    ExceptionHandlerExceptionResolver resolver = new ExceptionHandlerExceptionResolver();
+    resolver.setApplicationContext(context);
+    resolver.setMessageConverters(List.of(new JacksonJsonHttpMessageConverter()));
+    resolver.afterPropertiesSet();
+
+    return new RateLimitFilter(properties,
+        new StaticListableBeanFactory(Map.of("resolver", resolver))
+            .getBeanProvider(HandlerExceptionResolver.class));
+  }
+
+  private MockHttpServletResponse get(RateLimitFilter filter, String uri, @Nullable String user)
+      throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+    if (user != null) {
+      request.setUserPrincipal(() -> user);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+    return response;
+  }
+
+  private MockHttpServletResponse withApiKey(RateLimitFilter filter, String apiKey,
+      boolean authenticated) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders");
+    request.addHeader("X-API-Key", apiKey);
+    if (authenticated) {
+      request.setAttribute("app.rate-limit.api-key", apiKey);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+    return response;
+  }
+
+}
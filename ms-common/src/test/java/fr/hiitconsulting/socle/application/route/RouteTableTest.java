@@ -0,0 +1,171 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.CacheControl;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.CacheAnnotationInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.EtagFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RoutesEndpoint;
+import fr.hiitconsulting.socle.infrastructure.common.route.RoutePolicy;
+import fr.hiitconsulting.socle.infrastructure.common.route.RouteRegistry;
+import fr.hiitconsulting.socle.infrastructure.common.route.RouteTable;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletResponse;
+import jakarta.validation.Validation;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+public class RouteTableTest {
+
+  private static final List<Map<String, Object>> ROUTES = List.of(
+      Map.of("pattern", "/reports/**", "cache-control", Map.of("max-age", "5m")),
+      Map.of("pattern", "/items/**", "methods", List.of("GET"),
+          "cache-control", Map.of("no-cache", true),
+          "logging", Map.of("sample-rate", 0),
+          "etag", false));
+
+  private final AppProperties properties = new AppProperties();
+  private final RouteRegistry registry = new RouteRegistry(properties);
+  private final RoutesEndpoint endpoint = new RoutesEndpoint(registry,
+      Validation.buildDefaultValidatorFactory().getValidator());
+
+  @Test
+  public void shouldApplyFirstMatchingRoute() {
+    AppProperties.Route quiet = new AppProperties.Route();
+    quiet.setPattern("/health/**");
+    quiet.setMethods(List.of("get"));
+    quiet.setLogging(new AppProperties.RouteLogging());
+    quiet.getLogging().setEnabled(false);
+    AppProperties.Route all = new AppProperties.Route();
+    all.setEtag(false);
+
+    RouteTable table = RouteTable.compile(List.of(quiet, all));
+
+    assertThat(table.find(new MockHttpServletRequest("GET", "/health/live")).shouldLog())
+        .isFalse();
+    assertThat(table.find(new MockHttpServletRequest("POST", "/health/live")))
+        .satisfies(policy -> assertThat(policy.shouldLog()).isTrue())
+        .satisfies(policy -> assertThat(policy.etag()).isFalse());
+    assertThat(RouteTable.EMPTY.find(new MockHttpServletRequest("GET", "/health/live")))
+        .isEqualTo(RoutePolicy.DEFAULT);
+    assertThat(table.describe()).containsOnlyKeys("GET /health/**", "* /**");
+  }
+
+  @Test
+  public void shouldOverrideAnnotationDirectivesPerRoute() throws Exception {
+    endpoint.replace(ROUTES);
+    MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new Controller())
+        .addInterceptors(new CacheAnnotationInterceptor(registry))
+        .build();
+
+    mockMvc.perform(get("/reports/daily"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+            "private, max-age=300, stale-while-revalidate=30"));
+    mockMvc.perform(get("/items/1"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    mockMvc.perform(get("/orders"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+            "private, max-age=60, stale-while-revalidate=30"));
+  }
+
+  @Test
+  public void shouldReplaceRoutesPostedToTheEndpoint() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+    assertThat(registry.current().find(request)).isEqualTo(RoutePolicy.DEFAULT);
+
+    assertThat(endpoint.replace(ROUTES)).containsOnlyKeys("* /reports/**", "GET /items/**");
+    assertThat(registry.current().find(request).shouldLog()).isFalse();
+    assertThat(properties.getRoutes()).extracting(AppProperties.Route::getPattern)
+        .containsExactly("/reports/**", "/items/**");
+
+    assertThatThrownBy(() -> endpoint.replace(List.of(Map.of("pattern", "/{unclosed"))))
+        .isInstanceOf(InvalidEndpointRequestException.class);
+    assertThatThrownBy(() -> endpoint.replace(List.of(
+        Map.of("pattern", "/items/**", "logging", Map.of("sample-rate", 2)))))
+        .isInstanceOf(InvalidEndpointRequestException.class)
+        .hasMessageContaining("routes[0].logging.sampleRate");
+    assertThatThrownBy(() -> endpoint.replace(List.of(Map.of("pattern", "items/**"))))
+        .isInstanceOf(InvalidEndpointRequestException.class)
+        .hasMessageContaining("routes[0].pattern must start with /");
+    assertThat(registry.current().find(request).shouldLog()).isFalse();
+    assertThat(properties.getRoutes()).hasSize(2);
+  }
+
+  @Test
+  public void shouldSkipEtagOfRoutesTurningItOff() throws Exception {
+    endpoint.replace(ROUTES);
+    EtagFilter filter = new EtagFilter(null, null, registry);
+    AtomicReference<ServletResponse> filtered = new AtomicReference<>();
+    FilterChain chain = (request, response) -> filtered.set(response);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/items/1"), response, chain);
+    assertThat(filtered.get()).isSameAs(response);
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/reports/daily"), response, chain);
+    assertThat(filtered.get()).isInstanceOf(ContentCachingResponseWrapper.class);
+  }
+
+  @RestController
+  static class Controller {
+
+    @CacheControl(maxAge = 60)
+    @GetMapping("/reports/daily")
+    String report() {
+      return "report";
+    }
+
+    @GetMapping("/items/{id}")
+    String item() {
+      return "item";
+    }
+
+    @CacheControl(maxAge = 60)
+    @GetMapping("/orders")
+    String orders() {
+      return "orders";
+    }
+
+  }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.singleflight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.SingleFlight;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.SingleFlightFilter;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+public class SingleFlightFilterTest {
+
+  private final AtomicInteger executions = new AtomicInteger();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private SingleFlightFilter filter;
+
+  private final FilterChain chain = (request, response) -> {
+    int execution = executions.incrementAndGet();
+    try {
+      release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    response.getWriter().write("execution " + execution);
+  };
+
+  @BeforeEach
+  public void setUp() {
+    StaticWebApplicationContext context = new StaticWebApplicationContext();
+    context.registerSingleton("controller", Controller.class);
+    context.refresh();
+    RequestMappingHandlerMapping mapping = new RequestMappingHandlerMapping();
+    mapping.setApplicationContext(context);
+    mapping.afterPropertiesSet();
+
+    filter = new SingleFlightFilter(
+        new StaticListableBeanFactory(Map.of("mapping", mapping))
+            .getBeanProvider(RequestMappingHandlerMapping.class),
+        Duration.ofSeconds(5));
+  }
+
+  @Test
+  public void shouldShareExecutionOfIdenticalRequests() throws Exception {
+    CompletableFuture<MockHttpServletResponse> first = get("/items?a=1&b=2", "alice");
+    awaitExecutions(1);
+    CompletableFuture<MockHttpServletResponse> second = get("/items?b=2&a=1", "alice");
+    Thread.sleep(200);
+    release.countDown();
+
+    assertThat(second.get(5, TimeUnit.SECONDS).getContentAsString())
+        .isEqualTo(first.get(5, TimeUnit.SECONDS).getContentAsString())
+        .isEqualTo("execution 1");
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotShareExecutionBetweenUsersOfPrivateResource() throws Exception {
+    CompletableFuture<MockHttpServletResponse> first = get("/items", "alice");
+    CompletableFuture<MockHttpServletResponse> second = get("/items", "bob");
+    awaitExecutions(2);
+    release.countDown();
+
+    assertThat(second.get(5, TimeUnit.SECONDS).getContentAsString())
+        .isNotEqualTo(first.get(5, TimeUnit.SECONDS).getContentAsString());
+  }
+
+  @Test
+  public void shouldNotShareExecutionOfAnonymousRequestsOnPrivateResource() throws Exception {
+    CompletableFuture<MockHttpServletResponse> first = get("/items", null);
+    CompletableFuture<MockHttpServletResponse> second = get("/items", null);
+    awaitExecutions(2);
+    release.countDown();
+
+    assertThat(second.get(5, TimeUnit.SECONDS).getContentAsString())
+        .isNotEqualTo(first.get(5, TimeUnit.SECONDS).getContentAsString());
+  }
+
+  @Test
+  public void shouldShareExecutionBetweenUsersOfPublicResource() throws Exception {
+    CompletableFuture<MockHttpServletResponse> first = get("/public", "alice");
+    awaitExecutions(1);
+    CompletableFuture<MockHttpServletResponse> second = get("/public", "bob");
+    Thread.sleep(200);
+    release.countDown();
+
+    assertThat(second.get(5, TimeUnit.SECONDS).getContentAsString())
+        .isEqualTo(first.get(5, TimeUnit.SECONDS).getContentAsString());
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  public void shouldIgnoreMethodsWithoutAnnotation() throws Exception {
+    CompletableFuture<MockHttpServletResponse> first = get("/plain", "alice");
+    CompletableFuture<MockHttpServletResponse> second = get("/plain", "alice");
+    awaitExecutions(2);
+    release.countDown();
+
+    assertThat(second.get(5, TimeUnit.SECONDS).getContentAsString())
+        .isNotEqualTo(first.get(5, TimeUnit.SECONDS).getContentAsString());
+  }
+
+  private CompletableFuture<MockHttpServletResponse> get(String uri, @Nullable String user) {
+    return CompletableFuture.supplyAsync(() -> {
+      String[] parts = uri.split("\\?");
+      MockHttpServletRequest request = new MockHttpServletRequest("GET", parts[0]);
+      if (parts.length > 1) {
+        for (String parameter : parts[1].split("&")) {
+          String[] pair = parameter.split("=");
+          request.addParameter(pair[0], pair[1]);
+        }
+      }
+      if (user != null) {
+        request.setUserPrincipal(() -> user);
+      }
+      MockHttpServletResponse response = new MockHttpServletResponse();
+      try {
+        filter.doFilter(request, response, chain);
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+      return response;
+    });
+  }
+
+  private void awaitExecutions(int count) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (executions.get() < count && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(executions).hasValue(count);
+  }
+
+  @RestController
+  public static class Controller {
+
+    @SingleFlight
+    @GetMapping("/items")
+    public String items() {
+      return "items";
+    }
+
+    @SingleFlight(privateResource = false)
+    @GetMapping("/public")
+    public String publicItems() {
+      return "public";
+    }
+
+    @GetMapping("/plain")
+    public String plain() {
+      return "plain";
+    }
+
+  }
+
+}
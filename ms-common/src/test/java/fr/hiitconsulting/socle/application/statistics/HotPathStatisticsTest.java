@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import fr.hiitconsulting.socle.domain.shared.exception.AbstractNotFoundException;
+import fr.hiitconsulting.socle.infrastructure.common.statistics.HotPathStatistics;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class HotPathStatisticsTest {
+
+  private final HotPathStatistics statistics = new HotPathStatistics();
+
+  @Test
+  public void shouldReportRouteLatencies() {
+    IntStream.rangeClosed(1, 100).forEach(i ->
+        statistics.recordRequest("/items/{id}", i == 100 ? 503 : 200,
+            TimeUnit.MILLISECONDS.toNanos(i)));
+    statistics.recordRequest(null, 404, 1000);
+
+    HotPathStatistics.Snapshot snapshot = statistics.snapshot();
+
+    HotPathStatistics.RouteSnapshot route = snapshot.routes().get("/items/{id}");
+    assertThat(route.requests()).isEqualTo(100);
+    assertThat(route.serverErrors()).isEqualTo(1);
+    assertThat(route.p50()).isCloseTo(50, within(1d));
+    assertThat(route.p99()).isCloseTo(99, within(1d));
+    assertThat(route.max()).isCloseTo(100, within(1d));
+    assertThat(route.requestsPerSecond()).isPositive();
+    assertThat(snapshot.routes()).containsKey(HotPathStatistics.UNMATCHED_ROUTE);
+  }
+
+  @Test
+  public void shouldBoundNumberOfRoutes() {
+    IntStream.range(0, 1000).forEach(i -> statistics.recordRequest("/route/" + i, 200, 1000));
+
+    assertThat(statistics.snapshot().routes())
+        .hasSizeLessThanOrEqualTo(513)
+        .containsKey(HotPathStatistics.OTHER_ROUTES);
+  }
+
+  @Test
+  public void shouldCountExceptionsByAbstractType() {
+    statistics.recordException(new ItemNotFoundException());
+    statistics.recordException(new ItemNotFoundException());
+    statistics.recordException(new IllegalStateException());
+    statistics.recordException(new ItemLockedException());
+
+    assertThat(statistics.snapshot().exceptions())
+        .containsEntry("AbstractNotFoundException", 2L)
+        .containsEntry("IllegalStateException", 1L)
+        .containsEntry("ItemLockedException", 1L)
+        .doesNotContainKey("AbstractLockedException");
+  }
+
+  @Test
+  public void shouldReportEtagHitRatio() {
+    statistics.recordEtag(100);
+    statistics.recordEtag(300);
+    statistics.recordNotModified();
+
+    HotPathStatistics.EtagSnapshot etag = statistics.snapshot().etag();
+    assertThat(etag.hashed()).isEqualTo(2);
+    assertThat(etag.hitRatio()).isEqualTo(0.5);
+    assertThat(etag.bufferedBytes()).isEqualTo(400);
+  }
+
+  private static class ItemNotFoundException extends AbstractNotFoundException {
+
+    ItemNotFoundException() {
+      super("Item", "1");
+    }
+
+  }
+
+  private abstract static class AbstractLockedException extends RuntimeException {
+  }
+
+  private static class ItemLockedException extends AbstractLockedException {
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.StatisticsFilter;
+import fr.hiitconsulting.socle.infrastructure.common.statistics.HotPathStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class StatisticsFilterTest {
+
+  private final HotPathStatistics statistics = new HotPathStatistics();
+  private final StatisticsFilter filter = new StatisticsFilter(statistics);
+
+  @Test
+  public void shouldRecordRequestsByRoute() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+        req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/{id}"));
+
+    HotPathStatistics.RouteSnapshot route = statistics.snapshot().routes().get("/items/{id}");
+    assertThat(route.requests()).isEqualTo(1);
+    assertThat(route.serverErrors()).isZero();
+  }
+
+  @Test
+  public void shouldRecordUnhandledExceptionsAsServerErrors() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+
+    assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(),
+        (req, res) -> {
+          req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/{id}");
+          throw new IllegalStateException("boom");
+        }))
+        .isInstanceOf(IllegalStateException.class);
+
+    HotPathStatistics.Snapshot snapshot = statistics.snapshot();
+    HotPathStatistics.RouteSnapshot route = snapshot.routes().get("/items/{id}");
+    assertThat(route.requests()).isEqualTo(1);
+    assertThat(route.serverErrors()).isEqualTo(1);
+    assertThat(snapshot.exceptions()).containsEntry("IllegalStateException", 1L);
+  }
+
+}
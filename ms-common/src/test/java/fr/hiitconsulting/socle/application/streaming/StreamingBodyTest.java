@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.streaming;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import fr.hiitconsulting.socle.domain.shared.validator.DomainValidation;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.annotation.StreamingBody;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.RestResponseExceptionHandler;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.StreamingBodyArgumentResolver;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
+
+public class StreamingBodyTest {
+
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+  private final MockMvc mockMvc;
+
+  public StreamingBodyTest() {
+    AppProperties.StreamingBody properties = new AppProperties.StreamingBody();
+    properties.setMaxDepth(3);
+    properties.setMaxStringLength(DataSize.ofBytes(20));
+    mockMvc = MockMvcBuilders.standaloneSetup(new Controller())
+        .setCustomArgumentResolvers(
+            new StreamingBodyArgumentResolver(JsonMapper.builder().build(), properties))
+        .setControllerAdvice(new RestResponseExceptionHandler())
+        .build();
+  }
+
+  @Test
+  public void shouldStreamNdjsonAndArrays() throws Exception {
+    mockMvc.perform(post("/items").contentType(NDJSON)
+            .content("{\"name\":\"a\"}\n{\"name\":\"b\"}\n{\"name\":\"c\"}\n"))
+        .andExpect(status().isOk())
+        .andExpect(content().string("a,b,c"));
+
+    mockMvc.perform(post("/items").contentType(MediaType.APPLICATION_JSON)
+            .content("[{\"name\":\"a\"}, {\"name\":\"b\", \"address\":{\"city\":\"Paris\"}}]"))
+        .andExpect(status().isOk())
+        .andExpect(content().string("a,b"));
+
+    mockMvc.perform(post("/iterator").contentType(MediaType.APPLICATION_JSON).content("[]"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  public void shouldParseOnlyConsumedElements() throws Exception {
+    mockMvc.perform(post("/first").contentType(NDJSON)
+            .content("{\"name\":\"a\"}\n{\"name\":\"b\"}\nnot json at all"))
+        .andExpect(status().isOk())
+        .andExpect(content().string("a"));
+  }
+
+  @Test
+  public void shouldCollectInvalidElementsByIndex() throws Exception {
+    mockMvc.perform(post("/items").contentType(NDJSON)
+            .content("""
+                {"name":"a"}
+                {"name":" "}
+                {"name":"c"}
+                {"name":"d","address":{"city":""}}
+                {"name":"e"}
+                """))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("2 invalid elements"))
+        .andExpect(jsonPath("$.fieldErrors[0].fieldName").value("[1]"))
+        .andExpect(jsonPath("$.fieldErrors[0].message")
+            .value("Le champ [name=' '] ne doit pas être null ou vide."))
+        .andExpect(jsonPath("$.fieldErrors[1].fieldName").value("[3]"))
+        .andExpect(jsonPath("$.fieldErrors[1].message")
+            .value("Le champ [city=''] ne doit pas être null ou vide."));
+  }
+
+  @Test
+  public void shouldRejectBodiesExceedingLimits() throws Exception {
+    mockMvc.perform(post("/limited").contentType(NDJSON)
+            .content("{\"name\":\"a\"}\n{\"name\":\"b\"}\n{\"name\":\"c\"}\n"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("The body cannot hold more than 2 elements"));
+    mockMvc.perform(post("/items").contentType(NDJSON)
+            .content("{\"name\":\"a\",\"address\":{\"city\":\"x\",\"tags\":[[[\"deep\"]]]}}"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(post("/items").contentType(NDJSON)
+            .content("{\"name\":\"" + "x".repeat(50) + "\"}"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(post("/items").contentType(NDJSON).content("{\"name\":"))
+        .andExpect(status().isBadRequest());
+  }
+
+  record Address(String city, @Nullable List<Object> tags) {
+
+    Address {
+      DomainValidation.notBlank("city", city);
+    }
+
+  }
+
+  record Item(String name, @Nullable Address address) {
+
+    Item {
+      DomainValidation.notBlank("name", name);
+    }
+
+  }
+
+  @RestController
+  static class Controller {
+
+    @PostMapping("/items")
+    String items(@StreamingBody Stream<Item> items) {
+      try (items) {
+        return String.join(",", items.map(Item::name).toList());
+      }
+    }
+
+    @PostMapping("/iterator")
+    String iterator(@StreamingBody Iterator<Item> items) {
+      List<String> names = new ArrayList<>();
+      items.forEachRemaining(item -> names.add(item.name()));
+      return String.join(",", names);
+    }
+
+    @PostMapping("/first")
+    String first(@StreamingBody Stream<Item> items) {
+      return items.findFirst().map(Item::name).orElse("");
+    }
+
+    @PostMapping("/limited")
+    long limited(@StreamingBody(maxElements = 2) Stream<Item> items) {
+      return items.count();
+    }
+
+  }
+
+}
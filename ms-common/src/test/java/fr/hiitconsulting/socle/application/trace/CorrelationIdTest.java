@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package fr.hiitconsulting.socle.application.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.CorrelationIdFilter;
+import fr.hiitconsulting.socle.infrastructure.common.adapter.out.CorrelationIdInterceptor;
+import fr.hiitconsulting.socle.infrastructure.common.trace.TraceContext;
+import fr.hiitconsulting.socle.infrastructure.common.trace.TraceContextHolder;
+import java.net.URI;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class CorrelationIdTest {
+
+  private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+  private static final String TRACEPARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+
+  private final CorrelationIdFilter filter = new CorrelationIdFilter();
+  private final AtomicReference<TraceContext> bound = new AtomicReference<>();
+  private final AtomicReference<String> logged = new AtomicReference<>();
+
+  @Test
+  public void shouldContinueIncomingTraceAndEchoItsIdentifier() throws Exception {
+    MockHttpServletResponse response = filter(TRACEPARENT);
+
+    assertThat(response.getHeader(CorrelationIdFilter.CORRELATION_ID_HEADER)).isEqualTo(TRACE_ID);
+    assertThat(bound.get().traceId()).isEqualTo(TRACE_ID);
+    assertThat(bound.get().spanIdHex()).isNotEqualTo("00f067aa0ba902b7");
+    assertThat(logged.get()).isEqualTo(TRACE_ID);
+    assertThat(TraceContextHolder.current()).isNull();
+    assertThat(MDC.get(TraceContextHolder.TRACE_ID_KEY)).isNull();
+  }
+
+  @Test
+  public void shouldStartNewTraceOnInvalidTraceparent() throws Exception {
+    MockHttpServletResponse uppercase = filter(TRACEPARENT.toUpperCase());
+    assertThat(uppercase.getHeader(CorrelationIdFilter.CORRELATION_ID_HEADER))
+        .hasSize(32)
+        .isNotEqualToIgnoringCase(TRACE_ID)
+        .isEqualTo(bound.get().traceId());
+
+    MockHttpServletResponse longer = filter(TRACEPARENT + "-00");
+    assertThat(longer.getHeader(CorrelationIdFilter.CORRELATION_ID_HEADER))
+        .isNotEqualTo(TRACE_ID);
+  }
+
+  @Test
+  public void shouldPropagateTraceOnOutboundCalls() throws Exception {
+    CorrelationIdInterceptor interceptor = new CorrelationIdInterceptor();
+    MockClientHttpRequest untraced = request();
+    MockClientHttpRequest traced = request();
+    TraceContext context = Objects.requireNonNull(TraceContext.parse(TRACEPARENT));
+
+    interceptor.intercept(untraced, new byte[0], (request, body) -> response());
+    TraceContextHolder.call(context,
+        () -> interceptor.intercept(traced, new byte[0], (request, body) -> response()));
+
+    assertThat(untraced.getHeaders().containsHeader(TraceContext.TRACEPARENT)).isFalse();
+    TraceContext sent = TraceContext.parse(traced.getHeaders().getFirst(TraceContext.TRACEPARENT));
+    assertThat(sent).isNotNull();
+    assertThat(sent.traceId()).isEqualTo(TRACE_ID);
+    assertThat(sent.spanId()).isNotEqualTo(context.spanId());
+  }
+
+  private MockHttpServletResponse filter(@Nullable String traceparent) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders");
+    if (traceparent != null) {
+      request.addHeader(TraceContext.TRACEPARENT, traceparent);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, (filtered, unused) -> {
+      bound.set(TraceContextHolder.current());
+      logged.set(MDC.get(TraceContextHolder.TRACE_ID_KEY));
+    });
+    return response;
+  }
+
+  private static MockClientHttpRequest request() {
+    return new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost/items"));
+  }
+
+  private static MockClientHttpResponse response() {
+    return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+  }
+
+}
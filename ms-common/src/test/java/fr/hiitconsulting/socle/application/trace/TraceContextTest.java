@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import fr.hiitconsulting.socle.infrastructure.common.trace.TraceContext;
+import org.junit.jupiter.api.Test;
+
+public class TraceContextTest {
+
+  private static final String TRACEPARENT =
+      "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+  @Test
+  public void shouldParseValidTraceparent() {
+    TraceContext context = TraceContext.parse(TRACEPARENT);
+
+    assertThat(context).isNotNull();
+    assertThat(context.traceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+    assertThat(context.spanIdHex()).isEqualTo("00f067aa0ba902b7");
+    assertThat(context.toTraceparent()).isEqualTo(TRACEPARENT);
+  }
+
+  @Test
+  public void shouldRejectInvalidTraceparent() {
+    assertThat(TraceContext.parse(null)).isNull();
+    assertThat(TraceContext.parse("")).isNull();
+    assertThat(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e473-00f067aa0ba902b7-01"))
+        .isNull();
+    assertThat(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e473z-00f067aa0ba902b7-01"))
+        .isNull();
+    assertThat(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01"))
+        .isNull();
+    assertThat(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01"))
+        .isNull();
+    assertThat(TraceContext.parse("ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01"))
+        .isNull();
+    assertThat(TraceContext.parse(TRACEPARENT.toUpperCase())).isNull();
+    assertThat(TraceContext.parse(TRACEPARENT + "-00")).isNull();
+    assertThat(TraceContext.parse("01" + TRACEPARENT.substring(2) + "-00")).isNotNull();
+  }
+
+  @Test
+  public void shouldKeepTraceIdInChildSpan() {
+    TraceContext parent = TraceContext.generate();
+    TraceContext child = parent.child();
+
+    assertThat(child.traceId()).isEqualTo(parent.traceId()).hasSize(32);
+    assertThat(child.spanIdHex()).hasSize(16);
+    assertThat(child.spanId()).isNotEqualTo(parent.spanId());
+    assertThat(TraceContext.parse(child.toTraceparent())).isEqualTo(child);
+  }
+
+}
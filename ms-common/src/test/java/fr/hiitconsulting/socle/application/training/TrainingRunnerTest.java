@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Hi!T Consulting
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package fr.hiitconsulting.socle.application.training;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import fr.hiitconsulting.socle.infrastructure.common.adapter.in.TrainingRunController;
+import fr.hiitconsulting.socle.infrastructure.configuration.AppProperties;
+import fr.hiitconsulting.socle.infrastructure.configuration.TrainingRunner;
+import java.net.URI;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+
+public class TrainingRunnerTest {
+
+  @Test
+  public void shouldSendSyntheticRequestsThroughHotPaths() throws Exception {
+    // the training run mode itself exits once done, so the runner is driven by hand
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+        .properties("server.port=0")
+        .run()) {
+      AppProperties.TrainingRun trainingRun = new AppProperties.TrainingRun();
+      trainingRun.setIterations(1);
+      trainingRun.setPaths(List.of(TrainingRunController.PATH + "/extra"));
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+      List<Integer> statuses =
+          new TrainingRunner(trainingRun).run(URI.create("http://localhost:" + port));
+
+      // cached GET, ETag revalidation, sparse fieldset, CBOR, unknown resource, valid and
+      // invalid POST, then the application paths
+      assertThat(statuses).containsExactly(200, 304, 200, 200, 404, 200, 400, 200);
+    }
+  }
+
+  @SpringBootConfiguration
+  @EnableAutoConfiguration
+  @Import(TrainingRunController.class)
+  static class Application {
+  }
+
+}